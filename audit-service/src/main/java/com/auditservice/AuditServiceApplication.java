@@ -3,7 +3,7 @@ package com.auditservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication(scanBasePackages = "com")
+@SpringBootApplication(scanBasePackages = {"com.auditservice", "com.govcaseflow.infrastructure"})
 public class AuditServiceApplication {
 
     public static void main(String[] args) {
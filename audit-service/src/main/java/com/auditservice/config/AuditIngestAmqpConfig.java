@@ -0,0 +1,47 @@
+package com.auditservice.config;
+
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Container factory of the audit listeners. Each consumer takes up to {@code batch-size} messages,
+ * or whatever arrived within {@code receive-timeout-ms}, and the whole batch is written in one
+ * transaction and acknowledged together.
+ */
+@Configuration
+public class AuditIngestAmqpConfig {
+
+    public static final String CONTAINER_FACTORY = "auditBatchContainerFactory";
+
+    @Bean(name = CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory auditBatchContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${audit.ingest.consumers:1}") int consumers,
+            @Value("${audit.ingest.batch-size:500}") int batchSize,
+            @Value("${audit.ingest.receive-timeout-ms:100}") long receiveTimeoutMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(consumers);
+        factory.setMaxConcurrentConsumers(consumers);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        // a partial batch is handed over after this long without a new message
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setMissingQueuesFatal(false);
+
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("audit-ingest-"));
+        }
+
+        return factory;
+    }
+}
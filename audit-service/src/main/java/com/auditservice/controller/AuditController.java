@@ -2,16 +2,20 @@ package com.auditservice.controller;
 
 import com.auditservice.domain.AuditSeverity;
 import com.auditservice.domain.EventStatsDto;
+import com.auditservice.domain.StatsGranularity;
 import com.auditservice.dto.response.AuditEntryDto;
+import com.auditservice.dto.response.AuditStatsBucketDto;
 import com.auditservice.service.AuditService;
+import com.auditservice.service.AuditStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,32 +25,39 @@ import java.util.UUID;
 public class AuditController {
 
     private final AuditService service;
+    private final AuditStatsService statsService;
 
     @GetMapping("/case/{caseId}")
     @PreAuthorize("hasAnyRole('OFFICER','ADMIN')")
     public ResponseEntity<Page<AuditEntryDto>> getByCaseId(
             @PathVariable UUID caseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
             Pageable pageable
     ) {
-        return ResponseEntity.ok(service.getByCaseId(caseId, pageable));
+        return ResponseEntity.ok(service.getByCaseId(caseId, from, to, pageable));
     }
 
     @GetMapping("/trace/{traceId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Page<AuditEntryDto>> getByTraceId(
             @PathVariable String traceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
             Pageable pageable
     ) {
-        return ResponseEntity.ok(service.getByTraceId(traceId, pageable));
+        return ResponseEntity.ok(service.getByTraceId(traceId, from, to, pageable));
     }
 
     @PreAuthorize("hasAnyRole('ADMIN','OFFICER')")
     @GetMapping("/user/{userId}")
     public ResponseEntity<Page<AuditEntryDto>> getByUser(
             @PathVariable String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
             Pageable pageable
     ) {
-        return ResponseEntity.ok(service.getByUserId(userId, pageable));
+        return ResponseEntity.ok(service.getByUserId(userId, from, to, pageable));
     }
 
     @GetMapping("/stats/events")
@@ -55,12 +66,34 @@ public class AuditController {
         return service.getEventStats();
     }
 
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<AuditStatsBucketDto> statsBuckets(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "HOUR") StatsGranularity granularity
+    ) {
+        return statsService.getStats(from, to, granularity);
+    }
+
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        statsService.rebuild(from, to);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public Page<AuditEntryDto> getAll(
             @RequestParam(required = false) AuditSeverity severity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
             Pageable pageable
     ) {
-        return service.getAllFiltered(severity, pageable);
+        return service.getAllFiltered(severity, from, to, pageable);
     }
 }
\ No newline at end of file
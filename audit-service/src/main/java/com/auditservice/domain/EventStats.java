@@ -1,6 +0,0 @@
-package com.auditservice.domain;
-
-public interface EventStats {
-    String getEventType();
-    long getCount();
-}
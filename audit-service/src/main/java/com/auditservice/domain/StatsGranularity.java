@@ -0,0 +1,45 @@
+package com.auditservice.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/** Bucket size of the audit statistics rollups, each kept in its own table. */
+public enum StatsGranularity {
+    HOUR("audit_stats_hourly", ChronoUnit.HOURS, "hour"),
+    DAY("audit_stats_daily", ChronoUnit.DAYS, "day");
+
+    private final String table;
+    private final ChronoUnit unit;
+    private final String sqlUnit;
+
+    StatsGranularity(String table, ChronoUnit unit, String sqlUnit) {
+        this.table = table;
+        this.unit = unit;
+        this.sqlUnit = sqlUnit;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    /** Field name of this bucket size for PostgreSQL's {@code date_trunc}. */
+    public String sqlUnit() {
+        return sqlUnit;
+    }
+
+    /** Start of the (UTC) bucket holding {@code instant}. */
+    public Instant bucketOf(Instant instant) {
+        return instant.truncatedTo(unit);
+    }
+
+    /** Start of the first bucket at or after {@code instant}. */
+    public Instant ceil(Instant instant) {
+        Instant bucket = bucketOf(instant);
+        return bucket.equals(instant) ? bucket : bucket.plus(1, unit);
+    }
+
+    public long bucketsBetween(Instant from, Instant to) {
+        return Duration.between(from, to).toSeconds() / unit.getDuration().toSeconds();
+    }
+}
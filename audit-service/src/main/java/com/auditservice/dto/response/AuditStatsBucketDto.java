@@ -0,0 +1,11 @@
+package com.auditservice.dto.response;
+
+import java.time.Instant;
+
+public record AuditStatsBucketDto(
+        Instant bucketStart,
+        String eventType,
+        String severity,
+        String sourceService,
+        long count
+) {}
@@ -0,0 +1,12 @@
+package com.auditservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidStatsRangeException extends RuntimeException {
+
+    public InvalidStatsRangeException(String message) {
+        super(message);
+    }
+}
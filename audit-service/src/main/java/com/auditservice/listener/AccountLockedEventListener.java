@@ -1,27 +1,37 @@
 package com.auditservice.listener;
 
 import com.auditservice.config.AuditAuthQueuesConfig;
-import com.auditservice.tracing.MdcTrace;
-import com.govcaseflow.events.auth.AccountLockedEvent;
+import com.auditservice.config.AuditIngestAmqpConfig;
 import com.auditservice.service.AuditService;
+import com.auditservice.tracing.Traced;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.govcaseflow.events.auth.AccountLockedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AccountLockedEventListener {
 
     private final AuditService auditService;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(
+            queues = AuditAuthQueuesConfig.ACCOUNT_LOCKED_QUEUE,
+            containerFactory = AuditIngestAmqpConfig.CONTAINER_FACTORY
+    )
+    public void handle(List<Message> messages) {
+        List<Traced<AccountLockedEvent>> events = AuditMessages.read(objectMapper, messages, AccountLockedEvent.class);
+        log.warn("Received {} AccountLockedEvents", events.size());
 
-    @RabbitListener(queues = AuditAuthQueuesConfig.ACCOUNT_LOCKED_QUEUE)
-    public void handle(AccountLockedEvent event, Message message) {
-        MdcTrace.withTraceId(message, () -> {
-            log.warn("Received AccountLockedEvent: {}", event);
-            auditService.saveAccountLocked(event);
-        });
+        if (!events.isEmpty()) {
+            auditService.saveAccountsLocked(events);
+        }
     }
 }
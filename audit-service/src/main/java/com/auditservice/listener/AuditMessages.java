@@ -0,0 +1,38 @@
+package com.auditservice.listener;
+
+import com.auditservice.tracing.MdcTrace;
+import com.auditservice.tracing.Traced;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Reads the events of a message batch, each with the trace id of its message. */
+@Slf4j
+final class AuditMessages {
+
+    private AuditMessages() {}
+
+    static <T> List<Traced<T>> read(ObjectMapper objectMapper, List<Message> messages, Class<T> type) {
+        List<Traced<T>> events = new ArrayList<>(messages.size());
+
+        for (Message message : messages) {
+            try {
+                events.add(new Traced<>(
+                        objectMapper.readValue(message.getBody(), type),
+                        MdcTrace.traceId(message),
+                        message.getMessageProperties().getMessageId()
+                ));
+            } catch (IOException ex) {
+                // requeueing would only fail again, and would take the rest of the batch with it
+                log.error("Dropping unreadable {} message {} traceId={}: {}", type.getSimpleName(),
+                        message.getMessageProperties().getMessageId(), MdcTrace.traceId(message), ex.getMessage());
+            }
+        }
+
+        return events;
+    }
+}
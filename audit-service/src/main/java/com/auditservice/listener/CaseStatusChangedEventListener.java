@@ -1,27 +1,37 @@
 package com.auditservice.listener;
 
 import com.auditservice.config.AuditAmqpCaseStatusConfig;
-import com.auditservice.tracing.MdcTrace;
-import com.govcaseflow.events.cases.CaseStatusChangedEvent;
+import com.auditservice.config.AuditIngestAmqpConfig;
 import com.auditservice.service.AuditService;
+import com.auditservice.tracing.Traced;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.govcaseflow.events.cases.CaseStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CaseStatusChangedEventListener {
 
     private final AuditService auditService;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(
+            queues = AuditAmqpCaseStatusConfig.QUEUE,
+            containerFactory = AuditIngestAmqpConfig.CONTAINER_FACTORY
+    )
+    public void handle(List<Message> messages) {
+        List<Traced<CaseStatusChangedEvent>> events = AuditMessages.read(objectMapper, messages, CaseStatusChangedEvent.class);
+        log.debug("Received {} CaseStatusChangedEvents", events.size());
 
-    @RabbitListener(queues = AuditAmqpCaseStatusConfig.QUEUE)
-    public void handle(CaseStatusChangedEvent event, Message message) {
-        MdcTrace.withTraceId(message, () -> {
-            log.info("Received CaseStatusChangedEvent: {}", event);
-            auditService.save(event);
-        });
+        if (!events.isEmpty()) {
+            auditService.saveCaseStatusChanges(events);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,27 +1,37 @@
 package com.auditservice.listener;
 
 import com.auditservice.config.AuditAuthQueuesConfig;
-import com.auditservice.tracing.MdcTrace;
-import com.govcaseflow.events.auth.UserRegisteredEvent;
+import com.auditservice.config.AuditIngestAmqpConfig;
 import com.auditservice.service.AuditService;
+import com.auditservice.tracing.Traced;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.govcaseflow.events.auth.UserRegisteredEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserRegisteredEventListener {
 
     private final AuditService auditService;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(
+            queues = AuditAuthQueuesConfig.USER_REGISTERED_QUEUE,
+            containerFactory = AuditIngestAmqpConfig.CONTAINER_FACTORY
+    )
+    public void handle(List<Message> messages) {
+        List<Traced<UserRegisteredEvent>> events = AuditMessages.read(objectMapper, messages, UserRegisteredEvent.class);
+        log.debug("Received {} UserRegisteredEvents", events.size());
 
-    @RabbitListener(queues = AuditAuthQueuesConfig.USER_REGISTERED_QUEUE)
-    public void handle(UserRegisteredEvent event, Message message) {
-        MdcTrace.withTraceId(message, () -> {
-            log.info("Received UserRegisteredEvent: {}", event);
-            auditService.saveUserRegistered(event);
-        });
+        if (!events.isEmpty()) {
+            auditService.saveUsersRegistered(events);
+        }
     }
-}
\ No newline at end of file
+}
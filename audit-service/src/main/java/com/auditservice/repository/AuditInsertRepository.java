@@ -0,0 +1,57 @@
+package com.auditservice.repository;
+
+import com.auditservice.domain.AuditEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batched inserts into {@code audit_log}. Redeliveries are filtered out before this point by
+ * {@code MessageIdempotencyStore}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditInsertRepository {
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO audit_log
+                (id, case_id, old_status, new_status, changed_at, changed_by, trace_id, action,
+                 severity, event_type, source_service, actor_user_id, target_type, target_id)
+            VALUES (:id, :caseId, :oldStatus, :newStatus, :changedAt, :changedBy, :traceId, :action,
+                    :severity, :eventType, :sourceService, :actorUserId, :targetType, :targetId)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<AuditEntry> entries) {
+        SqlParameterSource[] batch = entries.stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getId() != null ? entry.getId() : UUID.randomUUID())
+                        .addValue("caseId", entry.getCaseId())
+                        .addValue("oldStatus", name(entry.getOldStatus()))
+                        .addValue("newStatus", name(entry.getNewStatus()))
+                        .addValue("changedAt", Timestamp.from(entry.getChangedAt()))
+                        .addValue("changedBy", entry.getChangedBy())
+                        .addValue("traceId", entry.getTraceId())
+                        .addValue("action", name(entry.getAction()))
+                        .addValue("severity", name(entry.getSeverity()))
+                        .addValue("eventType", name(entry.getEventType()))
+                        .addValue("sourceService", entry.getSourceService())
+                        .addValue("actorUserId", entry.getActorUserId())
+                        .addValue("targetType", name(entry.getTargetType()))
+                        .addValue("targetId", entry.getTargetId()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, batch);
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -1,36 +1,53 @@
 package com.auditservice.repository;
 
 import com.auditservice.domain.AuditEntry;
-import com.auditservice.domain.AuditEventType;
 import com.auditservice.domain.AuditSeverity;
-import com.auditservice.domain.EventStats;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 
+/**
+ * Every query is bounded by {@code changedAt} in [from, to), so PostgreSQL prunes the
+ * monthly partitions of {@code audit_log} outside the window, for the count query too.
+ */
 public interface AuditRepository extends JpaRepository<AuditEntry, UUID> {
 
-    Page<AuditEntry> findAllByCaseId(UUID caseId, Pageable pageable);
-
-    Page<AuditEntry> findAllByTraceId(String traceId, Pageable pageable);
+    @Query("""
+            select e from AuditEntry e
+            where e.caseId = :caseId
+              and e.changedAt >= :from and e.changedAt < :to
+            """)
+    Page<AuditEntry> findAllByCaseId(UUID caseId, Instant from, Instant to, Pageable pageable);
 
-    Page<AuditEntry> findAllByActorUserId(String actorUserId, Pageable pageable);
+    @Query("""
+            select e from AuditEntry e
+            where e.traceId = :traceId
+              and e.changedAt >= :from and e.changedAt < :to
+            """)
+    Page<AuditEntry> findAllByTraceId(String traceId, Instant from, Instant to, Pageable pageable);
 
     @Query("""
-            select e.eventType as eventType, count(e) as count
-            from AuditEntry e
-            where e.changedAt between :from and :to
-            group by e.eventType
+            select e from AuditEntry e
+            where e.actorUserId = :actorUserId
+              and e.changedAt >= :from and e.changedAt < :to
             """)
-    List<EventStats> countEventsBetween(Instant from, Instant to);
+    Page<AuditEntry> findAllByActorUserId(String actorUserId, Instant from, Instant to, Pageable pageable);
 
-    Page<AuditEntry> findAllBySeverity(AuditSeverity severity, Pageable pageable);
+    @Query("""
+            select e from AuditEntry e
+            where e.severity = :severity
+              and e.changedAt >= :from and e.changedAt < :to
+            """)
+    Page<AuditEntry> findAllBySeverity(AuditSeverity severity, Instant from, Instant to, Pageable pageable);
 
-    boolean existsByTraceIdAndEventType(String traceId, AuditEventType type);
+    @Query("""
+            select e from AuditEntry e
+            where e.changedAt >= :from and e.changedAt < :to
+            """)
+    Page<AuditEntry> findAllInWindow(Instant from, Instant to, Pageable pageable);
 
 }
@@ -0,0 +1,118 @@
+package com.auditservice.repository;
+
+import com.auditservice.domain.StatsGranularity;
+import com.auditservice.dto.response.AuditStatsBucketDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Event counts per (bucket, event type, severity, source service) in {@code audit_stats_hourly}
+ * and {@code audit_stats_daily}. Reads are range scans on the primary key, so their cost depends
+ * on the number of buckets asked for, not on the size of {@code audit_log}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditStatsRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO %1$s (bucket_start, event_type, severity, source_service, count)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (bucket_start, event_type, severity, source_service) DO UPDATE
+            SET count = %1$s.count + EXCLUDED.count
+            """;
+
+    private static final String SELECT_RANGE = """
+            SELECT bucket_start, event_type, severity, source_service, count
+            FROM %s
+            WHERE bucket_start >= ? AND bucket_start < ?
+            ORDER BY bucket_start, event_type, severity, source_service
+            """;
+
+    private static final String SUM_BY_EVENT_TYPE = """
+            SELECT event_type, SUM(count) AS total
+            FROM %s
+            WHERE bucket_start >= ? AND bucket_start < ?
+            GROUP BY event_type
+            ORDER BY event_type
+            """;
+
+    private static final String DELETE_RANGE = """
+            DELETE FROM %s WHERE bucket_start >= ? AND bucket_start < ?
+            """;
+
+    // entries from before the SOC fields were added have no type, severity or source
+    private static final String REBUILD_RANGE = """
+            INSERT INTO %s (bucket_start, event_type, severity, source_service, count)
+            SELECT date_trunc('%s', changed_at, 'UTC'),
+                   COALESCE(event_type, 'UNKNOWN'),
+                   COALESCE(severity, 'UNKNOWN'),
+                   COALESCE(source_service, 'unknown'),
+                   COUNT(*)
+            FROM audit_log
+            WHERE changed_at >= ? AND changed_at < ?
+            GROUP BY 1, 2, 3, 4
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Adds {@code rows} to the counters in one batch, in the order given. */
+    public void increment(StatsGranularity granularity, List<Map.Entry<StatsKey, Long>> rows) {
+        jdbcTemplate.batchUpdate(UPSERT.formatted(granularity.table()), rows, rows.size(), (ps, row) -> {
+            ps.setTimestamp(1, Timestamp.from(row.getKey().bucketStart()));
+            ps.setString(2, row.getKey().eventType());
+            ps.setString(3, row.getKey().severity());
+            ps.setString(4, row.getKey().sourceService());
+            ps.setLong(5, row.getValue());
+        });
+    }
+
+    public List<AuditStatsBucketDto> findBuckets(StatsGranularity granularity, Instant from, Instant to) {
+        return jdbcTemplate.query(SELECT_RANGE.formatted(granularity.table()),
+                (rs, rowNum) -> new AuditStatsBucketDto(
+                        rs.getTimestamp("bucket_start").toInstant(),
+                        rs.getString("event_type"),
+                        rs.getString("severity"),
+                        rs.getString("source_service"),
+                        rs.getLong("count")
+                ),
+                Timestamp.from(from),
+                Timestamp.from(to)
+        );
+    }
+
+    public Map<String, Long> sumByEventType(StatsGranularity granularity, Instant from, Instant to) {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        jdbcTemplate.query(SUM_BY_EVENT_TYPE.formatted(granularity.table()),
+                rs -> {
+                    totals.put(rs.getString("event_type"), rs.getLong("total"));
+                },
+                Timestamp.from(from),
+                Timestamp.from(to)
+        );
+        return totals;
+    }
+
+    /**
+     * Waits for every transaction that already incremented a rollup to commit and blocks new
+     * increments until the caller's transaction ends.
+     */
+    public void lockForRebuild() {
+        jdbcTemplate.execute("LOCK TABLE audit_stats_hourly, audit_stats_daily IN EXCLUSIVE MODE");
+    }
+
+    /** Replaces the buckets in [from, to) with counts recomputed from {@code audit_log}. */
+    public int rebuild(StatsGranularity granularity, Instant from, Instant to) {
+        jdbcTemplate.update(DELETE_RANGE.formatted(granularity.table()), Timestamp.from(from), Timestamp.from(to));
+        return jdbcTemplate.update(REBUILD_RANGE.formatted(granularity.table(), granularity.sqlUnit()),
+                Timestamp.from(from), Timestamp.from(to));
+    }
+
+    public record StatsKey(Instant bucketStart, String eventType, String severity, String sourceService) {}
+}
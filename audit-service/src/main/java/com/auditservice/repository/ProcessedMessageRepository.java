@@ -0,0 +1,55 @@
+package com.auditservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * AMQP message ids already ingested, kept in {@code audit_processed_messages} for the
+ * redelivery window and purged afterwards.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedMessageRepository {
+
+    // a concurrent claim of the same id waits for the first transaction and then conflicts
+    private static final String CLAIM = """
+            INSERT INTO audit_processed_messages (message_id, processed_at)
+            SELECT id, ? FROM unnest(?) AS ids(id)
+            ON CONFLICT (message_id) DO NOTHING
+            RETURNING message_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records {@code messageIds} as processed in the caller's transaction and returns the ones
+     * that were not recorded before.
+     */
+    public Set<String> claim(Collection<String> messageIds, Instant processedAt) {
+        String[] ids = messageIds.toArray(String[]::new);
+
+        return new HashSet<>(jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(CLAIM);
+                    statement.setTimestamp(1, Timestamp.from(processedAt));
+                    statement.setArray(2, connection.createArrayOf("varchar", ids));
+                    return statement;
+                },
+                (rs, rowNum) -> rs.getString("message_id")
+        ));
+    }
+
+    public int deleteProcessedBefore(Instant cutoff) {
+        return jdbcTemplate.update(
+                "DELETE FROM audit_processed_messages WHERE processed_at < ?",
+                Timestamp.from(cutoff)
+        );
+    }
+}
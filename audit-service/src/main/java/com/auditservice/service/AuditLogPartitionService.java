@@ -0,0 +1,127 @@
+package com.auditservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Monthly partitions of {@code audit_log}: created ahead of time, created on demand for entries
+ * outside that range, and dropped whole once older than {@code retention-months}.
+ * <p>
+ * The table has no default partition, so an insert into a month without a partition fails.
+ * Entry timestamps come from the producers, so besides the scheduled job every batch makes
+ * sure its months exist before it is written.
+ */
+@Slf4j
+@Service
+public class AuditLogPartitionService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransaction;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    private final Set<YearMonth> existing = ConcurrentHashMap.newKeySet();
+
+    public AuditLogPartitionService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${audit.log.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${audit.log.retention-months:24}") int retentionMonths
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /** Start of the oldest month still kept; older entries have been or will be dropped. */
+    public Instant retainedFrom() {
+        return oldestRetainedMonth().atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /** End of the months created ahead; together with {@link #retainedFrom()} it bounds every entry. */
+    public Instant horizonEnd() {
+        return currentMonth().plusMonths(monthsAhead + 1L).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * Creates the partitions of {@code timestamps}' months that are not known to exist, in a
+     * transaction of its own so the caller's insert sees them and they stay even if it rolls back.
+     */
+    public void ensurePartitionsFor(Collection<Instant> timestamps) {
+        List<YearMonth> missing = timestamps.stream()
+                .map(instant -> YearMonth.from(instant.atZone(ZoneOffset.UTC)))
+                .distinct()
+                .filter(month -> !existing.contains(month))
+                .sorted()
+                .toList();
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        newTransaction.executeWithoutResult(status -> {
+            for (YearMonth month : missing) {
+                ensure(month, month);
+            }
+        });
+        existing.addAll(missing);
+    }
+
+    @Scheduled(cron = "${audit.log.partitions.cron:0 0 1 * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        YearMonth current = currentMonth();
+        ensure(current, current.plusMonths(monthsAhead));
+        Stream.iterate(current, month -> !month.isAfter(current.plusMonths(monthsAhead)), month -> month.plusMonths(1))
+                .forEach(existing::add);
+
+        YearMonth cutoff = oldestRetainedMonth();
+        Integer dropped = jdbcTemplate.queryForObject(
+                "SELECT drop_audit_log_partitions_before(?)",
+                Integer.class,
+                cutoff.atDay(1)
+        );
+        existing.removeIf(month -> month.isBefore(cutoff));
+
+        if (dropped != null && dropped > 0) {
+            log.info("Dropped {} audit_log partitions older than {}", dropped, cutoff);
+        }
+    }
+
+    private void ensure(YearMonth from, YearMonth to) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT ensure_audit_log_partitions(?, ?)",
+                Integer.class,
+                from.atDay(1),
+                to.atDay(1)
+        );
+
+        if (created != null && created > 0) {
+            log.info("Created {} audit_log partitions for {} to {}", created, from, to);
+        }
+    }
+
+    private YearMonth oldestRetainedMonth() {
+        return currentMonth().minusMonths(retentionMonths);
+    }
+
+    private static YearMonth currentMonth() {
+        return YearMonth.now(ZoneOffset.UTC);
+    }
+}
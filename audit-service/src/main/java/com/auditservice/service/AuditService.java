@@ -6,21 +6,26 @@ import com.govcaseflow.events.auth.UserPromotedEvent;
 import com.govcaseflow.events.auth.AccountLockedEvent;
 import com.govcaseflow.events.auth.UserRegisteredEvent;
 import com.auditservice.mapper.AuditEntryMapper;
+import com.auditservice.repository.AuditInsertRepository;
 import com.auditservice.repository.AuditRepository;
+import com.auditservice.tracing.Traced;
 import com.govcaseflow.events.cases.AuditSourceService;
 import com.govcaseflow.events.cases.CaseStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,142 +33,191 @@ import java.util.UUID;
 public class AuditService {
 
     private final AuditRepository repository;
+    private final AuditInsertRepository insertRepository;
+    private final MessageIdempotencyStore idempotencyStore;
+    private final AuditStatsService statsService;
+    private final AuditLogPartitionService partitionService;
     private final AuditEntryMapper mapper;
 
     @Transactional
-    public void save(CaseStatusChangedEvent event) {
-        String traceId = currentTraceId();
-
-        if (repository.existsByTraceIdAndEventType(traceId, AuditEventType.CASE_STATUS_CHANGED)) {
-            log.warn("Duplicate audit ignored traceId={}", traceId);
-            return;
-        }
-
-        AuditSeverity severity = classifySeverity(event);
-
-        log.info("audit.save caseId={} {}->{} severity={}",
-                event.caseId(), event.oldStatus(), event.newStatus(), severity);
-
-        repository.save(
-                AuditEntry.builder()
-                        .caseId(event.caseId())
-                        .oldStatus(event.oldStatus())
-                        .newStatus(event.newStatus())
-                        .changedAt(event.changedAt())
-                        .changedBy(event.changedBy())
-                        .traceId(traceId)
-                        .action(AuditAction.CASE_STATUS_CHANGED)
-
-                        .severity(severity)
-                        .eventType(AuditEventType.CASE_STATUS_CHANGED)
-                        .sourceService(AuditSourceService.CASE_SERVICE.value())
-                        .actorUserId(event.changedBy())
-                        .targetType(AuditTargetType.CASE)
-                        .targetId(event.caseId().toString())
-                        .build()
-        );
-
-        if (severity == AuditSeverity.HIGH) {
-            log.error("HIGH severity audit detected caseId={}", event.caseId());
-        }
+    public void saveCaseStatusChanges(List<Traced<CaseStatusChangedEvent>> events) {
+        saveBatch(unprocessed(events).stream().map(this::caseStatusEntry).toList());
     }
 
     @Transactional
-    public void saveUserRegistered(UserRegisteredEvent event) {
-        saveUserEvent(
-                AuditEventType.USER_REGISTERED,
-                AuditSeverity.INFO,
-                event.email(),
-                event.userId().toString(),
-                event.registeredAt()
-        );
+    public void saveUsersRegistered(List<Traced<UserRegisteredEvent>> events) {
+        saveBatch(unprocessed(events).stream()
+                .map(e -> userEntry(
+                        traceIdOf(e),
+                        AuditEventType.USER_REGISTERED,
+                        AuditSeverity.INFO,
+                        e.event().email(),
+                        e.event().userId().toString(),
+                        e.event().registeredAt()
+                ))
+                .toList());
     }
 
     @Transactional
-    public void saveUserPromoted(UserPromotedEvent event) {
-        saveUserEvent(
-                AuditEventType.USER_PROMOTED,
-                AuditSeverity.MEDIUM,
-                event.actorId().toString(),
-                event.targetUserId().toString(),
-                event.occurredAt()
-        );
+    public void saveUsersPromoted(List<Traced<UserPromotedEvent>> events) {
+        saveBatch(unprocessed(events).stream()
+                .map(e -> userEntry(
+                        traceIdOf(e),
+                        AuditEventType.USER_PROMOTED,
+                        AuditSeverity.MEDIUM,
+                        e.event().actorId().toString(),
+                        e.event().targetUserId().toString(),
+                        e.event().occurredAt()
+                ))
+                .toList());
     }
 
     @Transactional
-    public void saveAccountLocked(AccountLockedEvent event) {
-        saveUserEvent(
-                AuditEventType.ACCOUNT_LOCKED,
-                AuditSeverity.HIGH,
-                "SYSTEM",
-                event.userId().toString(),
-                event.lockUntil()
-        );
+    public void saveAccountsLocked(List<Traced<AccountLockedEvent>> events) {
+        saveBatch(unprocessed(events).stream()
+                .map(e -> userEntry(
+                        traceIdOf(e),
+                        AuditEventType.ACCOUNT_LOCKED,
+                        AuditSeverity.HIGH,
+                        "SYSTEM",
+                        e.event().userId().toString(),
+                        e.event().lockUntil()
+                ))
+                .toList());
+    }
+
+    /**
+     * Keeps the events whose message id this transaction claimed, dropping redeliveries and
+     * repeats within the batch before any entry is built. Events without a message id cannot be
+     * recognised when redelivered and are always kept.
+     */
+    private <T> List<Traced<T>> unprocessed(List<Traced<T>> events) {
+        Set<String> messageIds = events.stream()
+                .map(Traced::messageId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> claimed = messageIds.isEmpty() ? Set.of() : new HashSet<>(idempotencyStore.claim(messageIds));
+
+        List<Traced<T>> fresh = new ArrayList<>(events.size());
+        for (Traced<T> event : events) {
+            if (event.messageId() == null || claimed.remove(event.messageId())) {
+                fresh.add(event);
+            } else {
+                log.warn("Duplicate audit message ignored messageId={} traceId={}", event.messageId(), event.traceId());
+            }
+        }
+        return fresh;
+    }
+
+    private void saveBatch(List<AuditEntry> batch) {
+        // the partitions of these months are already dropped, or about to be
+        Instant retainedFrom = partitionService.retainedFrom();
+        List<AuditEntry> entries = new ArrayList<>(batch.size());
+        for (AuditEntry entry : batch) {
+            if (entry.getChangedAt().isBefore(retainedFrom)) {
+                log.warn("Audit entry older than retention ignored traceId={} changedAt={}",
+                        entry.getTraceId(), entry.getChangedAt());
+            } else {
+                entries.add(entry);
+            }
+        }
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        partitionService.ensurePartitionsFor(entries.stream().map(AuditEntry::getChangedAt).toList());
+
+        for (AuditEntry entry : entries) {
+            if (entry.getSeverity() == AuditSeverity.HIGH) {
+                log.error("HIGH severity audit detected traceId={} type={} target={}",
+                        entry.getTraceId(), entry.getEventType(), entry.getTargetId());
+            }
+        }
+
+        insertRepository.insertAll(entries);
+        statsService.record(entries);
+
+        log.info("audit.save written={}", entries.size());
     }
 
-    private void saveUserEvent(
+    private AuditEntry caseStatusEntry(Traced<CaseStatusChangedEvent> traced) {
+        CaseStatusChangedEvent event = traced.event();
+
+        return AuditEntry.builder()
+                .caseId(event.caseId())
+                .oldStatus(event.oldStatus())
+                .newStatus(event.newStatus())
+                .changedAt(event.changedAt())
+                .changedBy(event.changedBy())
+                .traceId(traceIdOf(traced))
+                .action(AuditAction.CASE_STATUS_CHANGED)
+
+                .severity(classifySeverity(event))
+                .eventType(AuditEventType.CASE_STATUS_CHANGED)
+                .sourceService(AuditSourceService.CASE_SERVICE.value())
+                .actorUserId(event.changedBy())
+                .targetType(AuditTargetType.CASE)
+                .targetId(event.caseId().toString())
+                .build();
+    }
+
+    private AuditEntry userEntry(
+            String traceId,
             AuditEventType type,
             AuditSeverity severity,
             String actor,
             String target,
             Instant timestamp
     ) {
-        String traceId = currentTraceId();
-
-        if (repository.existsByTraceIdAndEventType(traceId, type)) {
-            log.warn("Duplicate audit ignored traceId={} type={}", traceId, type);
-            return;
-        }
+        return AuditEntry.builder()
+                .caseId(null)
+                .oldStatus(null)
+                .newStatus(null)
+                .changedAt(timestamp)
+                .changedBy(actor)
+                .traceId(traceId)
+
+                .eventType(type)
+                .severity(severity)
+                .sourceService(AuditSourceService.AUTH_SERVICE.value())
+                .actorUserId(actor)
+                .targetType(AuditTargetType.USER)
+                .targetId(target)
+                .build();
+    }
 
-        repository.save(
-                AuditEntry.builder()
-                        .caseId(null)
-                        .oldStatus(null)
-                        .newStatus(null)
-                        .changedAt(timestamp)
-                        .changedBy(actor)
-                        .traceId(traceId)
-
-                        .eventType(type)
-                        .severity(severity)
-                        .sourceService(AuditSourceService.AUTH_SERVICE.value())
-                        .actorUserId(actor)
-                        .targetType(AuditTargetType.USER)
-                        .targetId(target)
-                        .build()
-        );
-    }
-
-    public Page<AuditEntryDto> getByTraceId(String traceId, Pageable pageable) {
-        return repository.findAllByTraceId(traceId, pageable)
+    // reads are bounded by changed_at so only the partitions of [from, to) are scanned;
+    // without a window they cover every retained month
+    public Page<AuditEntryDto> getByTraceId(String traceId, Instant from, Instant to, Pageable pageable) {
+        return repository.findAllByTraceId(traceId, fromOrOldest(from), toOrHorizon(to), pageable)
                 .map(mapper::toDto);
     }
 
-    public Page<AuditEntryDto> getByCaseId(UUID caseId, Pageable pageable) {
-        return repository.findAllByCaseId(caseId, pageable)
+    public Page<AuditEntryDto> getByCaseId(UUID caseId, Instant from, Instant to, Pageable pageable) {
+        return repository.findAllByCaseId(caseId, fromOrOldest(from), toOrHorizon(to), pageable)
                 .map(mapper::toDto);
     }
 
-    public Page<AuditEntryDto> getByUserId(String userId, Pageable pageable) {
-        return repository.findAllByActorUserId(userId, pageable)
+    public Page<AuditEntryDto> getByUserId(String userId, Instant from, Instant to, Pageable pageable) {
+        return repository.findAllByActorUserId(userId, fromOrOldest(from), toOrHorizon(to), pageable)
                 .map(mapper::toDto);
     }
 
-    public Page<AuditEntryDto> getAllFiltered(AuditSeverity severity, Pageable pageable) {
+    public Page<AuditEntryDto> getAllFiltered(AuditSeverity severity, Instant from, Instant to, Pageable pageable) {
         if (severity == null) {
-            return repository.findAll(pageable).map(mapper::toDto);
+            return repository.findAllInWindow(fromOrOldest(from), toOrHorizon(to), pageable)
+                    .map(mapper::toDto);
         }
-        return repository.findAllBySeverity(severity, pageable)
+        return repository.findAllBySeverity(severity, fromOrOldest(from), toOrHorizon(to), pageable)
                 .map(mapper::toDto);
     }
 
     public List<EventStatsDto> getEventStats() {
-        Instant now = Instant.now();
-        Instant from = now.minus(24, ChronoUnit.HOURS);
-
-        return repository.countEventsBetween(from, now)
+        return statsService.lastDayByEventType()
+                .entrySet()
                 .stream()
-                .map(e -> new EventStatsDto(e.getEventType(), e.getCount()))
+                .map(e -> new EventStatsDto(e.getKey(), e.getValue()))
                 .toList();
     }
 
@@ -175,8 +229,16 @@ public class AuditService {
         };
     }
 
-    private String currentTraceId() {
-        String traceId = MDC.get("traceId");
-        return traceId != null ? traceId : UUID.randomUUID().toString();
+    private Instant fromOrOldest(Instant from) {
+        return from != null ? from : partitionService.retainedFrom();
+    }
+
+    private Instant toOrHorizon(Instant to) {
+        return to != null ? to : partitionService.horizonEnd();
+    }
+
+    // trace_id is required, so an untraced message gets a trace of its own
+    private static String traceIdOf(Traced<?> traced) {
+        return traced.traceId() != null ? traced.traceId() : UUID.randomUUID().toString();
     }
 }
\ No newline at end of file
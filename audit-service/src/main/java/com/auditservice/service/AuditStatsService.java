@@ -0,0 +1,144 @@
+package com.auditservice.service;
+
+import com.auditservice.domain.AuditEntry;
+import com.auditservice.domain.StatsGranularity;
+import com.auditservice.dto.response.AuditStatsBucketDto;
+import com.auditservice.exception.InvalidStatsRangeException;
+import com.auditservice.repository.AuditStatsRepository;
+import com.auditservice.repository.AuditStatsRepository.StatsKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Audit statistics served from hourly and daily rollups instead of scanning {@code audit_log}.
+ * <p>
+ * The rollups are incremented in the same transaction that writes the entries, so they never
+ * count an entry that was rolled back. {@link #rebuild} recomputes a range from the log, for
+ * entries written before the rollups existed or by anything that bypasses this service.
+ */
+@Slf4j
+@Service
+public class AuditStatsService {
+
+    // rows are upserted in this order, so two batches cannot lock counters in opposite order
+    private static final Comparator<StatsKey> KEY_ORDER = Comparator
+            .comparing(StatsKey::bucketStart)
+            .thenComparing(StatsKey::eventType)
+            .thenComparing(StatsKey::severity)
+            .thenComparing(StatsKey::sourceService);
+
+    private final AuditStatsRepository statsRepository;
+    private final AuditLogPartitionService partitionService;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxBuckets;
+
+    public AuditStatsService(
+            AuditStatsRepository statsRepository,
+            AuditLogPartitionService partitionService,
+            PlatformTransactionManager transactionManager,
+            @Value("${audit.stats.max-buckets:2000}") long maxBuckets
+    ) {
+        this.statsRepository = statsRepository;
+        this.partitionService = partitionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(List<AuditEntry> entries) {
+        for (StatsGranularity granularity : StatsGranularity.values()) {
+            Map<StatsKey, Long> counts = new TreeMap<>(KEY_ORDER);
+            for (AuditEntry entry : entries) {
+                StatsKey key = new StatsKey(
+                        granularity.bucketOf(entry.getChangedAt()),
+                        entry.getEventType().name(),
+                        entry.getSeverity().name(),
+                        entry.getSourceService()
+                );
+                counts.merge(key, 1L, Long::sum);
+            }
+            statsRepository.increment(granularity, new ArrayList<>(counts.entrySet()));
+        }
+    }
+
+    /**
+     * Counts per bucket for [from, to), widened to whole buckets of {@code granularity}.
+     */
+    @Transactional(readOnly = true)
+    public List<AuditStatsBucketDto> getStats(Instant from, Instant to, StatsGranularity granularity) {
+        if (!from.isBefore(to)) {
+            throw new InvalidStatsRangeException("from must be before to");
+        }
+
+        Instant start = granularity.bucketOf(from);
+        Instant end = granularity.ceil(to);
+        if (granularity.bucketsBetween(start, end) > maxBuckets) {
+            throw new InvalidStatsRangeException(
+                    "Range spans more than " + maxBuckets + " " + granularity.name().toLowerCase() + " buckets");
+        }
+
+        return statsRepository.findBuckets(granularity, start, end);
+    }
+
+    /** Totals per event type over the last 24 whole hours and the current one. */
+    @Transactional(readOnly = true)
+    public Map<String, Long> lastDayByEventType() {
+        Instant now = Instant.now();
+        return statsRepository.sumByEventType(
+                StatsGranularity.HOUR,
+                StatsGranularity.HOUR.bucketOf(now.minus(24, ChronoUnit.HOURS)),
+                StatsGranularity.HOUR.ceil(now)
+        );
+    }
+
+    /**
+     * Recomputes the rollups of [from, to), widened to whole UTC days, one day per transaction.
+     * Each day locks the rollups so entries committed while it runs are neither lost nor counted twice.
+     * Days whose entries fell to retention are left alone: the rollups outlive the log.
+     *
+     * @return number of days rebuilt
+     */
+    public int rebuild(Instant from, Instant to) {
+        Instant retainedFrom = partitionService.retainedFrom();
+        Instant day = StatsGranularity.DAY.bucketOf(from.isBefore(retainedFrom) ? retainedFrom : from);
+        Instant end = StatsGranularity.DAY.ceil(to);
+        int days = 0;
+
+        while (day.isBefore(end)) {
+            Instant dayStart = day;
+            Instant dayEnd = day.plus(1, ChronoUnit.DAYS);
+            int buckets = transactionTemplate.execute(status -> {
+                statsRepository.lockForRebuild();
+                return statsRepository.rebuild(StatsGranularity.HOUR, dayStart, dayEnd)
+                        + statsRepository.rebuild(StatsGranularity.DAY, dayStart, dayEnd);
+            });
+            log.debug("Rebuilt audit stats for {}: {} buckets", dayStart, buckets);
+            day = dayEnd;
+            days++;
+        }
+
+        log.info("Rebuilt audit stats for {} days up to {}", days, end);
+        return days;
+    }
+
+    /** Recounts yesterday, catching entries written around the rollups. */
+    @Scheduled(cron = "${audit.stats.rebuild.cron:0 40 0 * * *}", zone = "UTC")
+    public void rebuildPreviousDay() {
+        Instant today = StatsGranularity.DAY.bucketOf(Instant.now());
+        rebuild(today.minus(1, ChronoUnit.DAYS), today);
+    }
+}
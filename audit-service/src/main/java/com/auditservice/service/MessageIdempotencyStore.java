@@ -0,0 +1,118 @@
+package com.auditservice.service;
+
+import com.auditservice.repository.ProcessedMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Exactly-once ingestion keyed by the AMQP message id.
+ * <p>
+ * Ids committed within the last {@code window} are held in memory, up to {@code capacity} of them,
+ * and redeliveries among them are dropped without a database round trip. The rest are claimed in
+ * {@code audit_processed_messages} in the caller's transaction: the claim commits or rolls back
+ * together with the audit entries, so a message is recorded exactly when its entry is.
+ */
+@Slf4j
+@Component
+public class MessageIdempotencyStore {
+
+    private final ProcessedMessageRepository repository;
+    private final Duration window;
+    private final int capacity;
+    private final Duration retention;
+
+    // insertion order is commit order, so the oldest ids are always at the head
+    private final LinkedHashMap<String, Instant> recent = new LinkedHashMap<>();
+
+    public MessageIdempotencyStore(
+            ProcessedMessageRepository repository,
+            @Value("${audit.dedup.window:PT1H}") Duration window,
+            @Value("${audit.dedup.capacity:100000}") int capacity,
+            @Value("${audit.dedup.retention:P7D}") Duration retention
+    ) {
+        this.repository = repository;
+        this.window = window;
+        this.capacity = capacity;
+        this.retention = retention;
+    }
+
+    /**
+     * Returns the ids among {@code messageIds} not processed before. They count as processed once
+     * the caller's transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<String> claim(Collection<String> messageIds) {
+        Instant now = Instant.now();
+
+        List<String> unknown = new ArrayList<>(messageIds.size());
+        synchronized (recent) {
+            evictExpired(now);
+            for (String messageId : new HashSet<>(messageIds)) {
+                if (!recent.containsKey(messageId)) {
+                    unknown.add(messageId);
+                }
+            }
+        }
+
+        if (unknown.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> claimed = repository.claim(unknown, now);
+        afterCommit(() -> remember(claimed, now));
+        return claimed;
+    }
+
+    @Scheduled(cron = "${audit.dedup.purge.cron:0 20 * * * *}")
+    public void purgeExpired() {
+        int purged = repository.deleteProcessedBefore(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} processed message ids older than {}", purged, retention);
+        }
+    }
+
+    private void remember(Collection<String> messageIds, Instant processedAt) {
+        synchronized (recent) {
+            messageIds.forEach(id -> recent.put(id, processedAt));
+            evictExpired(Instant.now());
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        Instant oldest = now.minus(window);
+        Iterator<Map.Entry<String, Instant>> iterator = recent.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Instant> entry = iterator.next();
+            if (recent.size() <= capacity && !entry.getValue().isBefore(oldest)) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
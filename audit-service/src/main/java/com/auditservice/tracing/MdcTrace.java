@@ -1,30 +1,22 @@
 package com.auditservice.tracing;
 
-import org.slf4j.MDC;
 import org.springframework.amqp.core.Message;
 
 public final class MdcTrace {
 
     private static final String TRACE_ID_HEADER = "traceId";
-    private static final String MDC_KEY = "traceId";
 
     private MdcTrace() {}
 
-    public static void withTraceId(Message message, Runnable action) {
-        String traceId = null;
-        if (message != null && message.getMessageProperties() != null) {
-            Object header = message.getMessageProperties().getHeaders().get(TRACE_ID_HEADER);
-            if (header != null) traceId = header.toString();
+    /** The trace id header of {@code message}, or null when it has none. */
+    public static String traceId(Message message) {
+        if (message == null || message.getMessageProperties() == null) {
+            return null;
         }
-
-        if (traceId != null && !traceId.isBlank()) {
-            MDC.put(MDC_KEY, traceId);
-        }
-
-        try {
-            action.run();
-        } finally {
-            MDC.remove(MDC_KEY);
+        Object header = message.getMessageProperties().getHeaders().get(TRACE_ID_HEADER);
+        if (header == null || header.toString().isBlank()) {
+            return null;
         }
+        return header.toString();
     }
 }
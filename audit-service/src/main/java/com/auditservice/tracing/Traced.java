@@ -0,0 +1,4 @@
+package com.auditservice.tracing;
+
+/** An event read from a message, together with the trace id and AMQP message id of that message. */
+public record Traced<T>(T event, String traceId, String messageId) {}
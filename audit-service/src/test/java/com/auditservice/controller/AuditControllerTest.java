@@ -2,12 +2,16 @@ package com.auditservice.controller;
 
 import com.auditservice.domain.AuditSeverity;
 import com.auditservice.domain.EventStatsDto;
+import com.auditservice.domain.StatsGranularity;
 import com.auditservice.dto.response.AuditEntryDto;
+import com.auditservice.dto.response.AuditStatsBucketDto;
+import com.auditservice.exception.InvalidStatsRangeException;
 import com.auditservice.security.JwtService;
 import com.auditservice.security.SecurityConfig;
 import com.auditservice.domain.AuditEntry;
 import com.auditservice.repository.AuditRepository;
 import com.auditservice.service.AuditService;
+import com.auditservice.service.AuditStatsService;
 import com.govcaseflow.events.cases.CaseStatus;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +32,7 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -46,6 +51,9 @@ class AuditControllerTest {
     @MockBean
     private AuditService service;
 
+    @MockBean
+    private AuditStatsService statsService;
+
     @Test
     void shouldReturnAuditEntriesPaginated() throws Exception {
         var caseId = UUID.randomUUID();
@@ -67,7 +75,7 @@ class AuditControllerTest {
                 caseId.toString()
         );
 
-        when(service.getAllFiltered(eq(null), any(Pageable.class)))
+        when(service.getAllFiltered(isNull(), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of(dto)));
 
         mockMvc.perform(get("/api/audit")
@@ -76,7 +84,7 @@ class AuditControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].id").value(entryId.toString()));
 
-        verify(service).getAllFiltered(eq(null), any(Pageable.class));
+        verify(service).getAllFiltered(isNull(), isNull(), isNull(), any(Pageable.class));
     }
 
     @Test
@@ -100,7 +108,7 @@ class AuditControllerTest {
                 caseId.toString()
         );
 
-        when(service.getByCaseId(eq(caseId), any(PageRequest.class)))
+        when(service.getByCaseId(eq(caseId), isNull(), isNull(), any(PageRequest.class)))
                 .thenReturn(new PageImpl<>(List.of(dto)));
 
         mockMvc.perform(get("/api/audit/case/{caseId}", caseId)
@@ -111,12 +119,12 @@ class AuditControllerTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.content[0].caseId").value(caseId.toString()));
 
-        verify(service).getByCaseId(eq(caseId), any(Pageable.class));
+        verify(service).getByCaseId(eq(caseId), isNull(), isNull(), any(Pageable.class));
     }
 
     @Test
     void shouldFilterBySeverity() throws Exception {
-        when(service.getAllFiltered(eq(AuditSeverity.HIGH), any()))
+        when(service.getAllFiltered(eq(AuditSeverity.HIGH), isNull(), isNull(), any()))
                 .thenReturn(Page.empty());
 
         mockMvc.perform(get("/api/audit")
@@ -129,14 +137,14 @@ class AuditControllerTest {
         String traceId = UUID.randomUUID().toString();
         var dto = sampleDto();
 
-        when(service.getByTraceId(eq(traceId), any()))
+        when(service.getByTraceId(eq(traceId), isNull(), isNull(), any()))
                 .thenReturn(new PageImpl<>(List.of(dto)));
 
         mockMvc.perform(get("/api/audit/trace/{traceId}", traceId))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("X-Trace-Id"));
 
-        verify(service).getByTraceId(eq(traceId), any(Pageable.class));
+        verify(service).getByTraceId(eq(traceId), isNull(), isNull(), any(Pageable.class));
     }
 
     @Test
@@ -144,14 +152,14 @@ class AuditControllerTest {
         String userId = UUID.randomUUID().toString();
         var dto = sampleDto();
 
-        when(service.getByUserId(eq(userId), any()))
+        when(service.getByUserId(eq(userId), isNull(), isNull(), any()))
                 .thenReturn(new PageImpl<>(List.of(dto)));
 
         mockMvc.perform(get("/api/audit/user/{userId}", userId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].actorUserId").value(dto.actorUserId()));
 
-        verify(service).getByUserId(eq(userId), any(Pageable.class));
+        verify(service).getByUserId(eq(userId), isNull(), isNull(), any(Pageable.class));
     }
 
     @Test
@@ -171,6 +179,55 @@ class AuditControllerTest {
         verify(service).getEventStats();
     }
 
+    @Test
+    void shouldPassWindowToCaseQuery() throws Exception {
+        var caseId = UUID.randomUUID();
+        Instant from = Instant.parse("2026-05-01T00:00:00Z");
+        Instant to = Instant.parse("2026-06-01T00:00:00Z");
+
+        when(service.getByCaseId(eq(caseId), eq(from), eq(to), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/audit/case/{caseId}", caseId)
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(status().isOk());
+
+        verify(service).getByCaseId(eq(caseId), eq(from), eq(to), any(Pageable.class));
+    }
+
+    @Test
+    void shouldReturnStatsBucketsForWindow() throws Exception {
+        Instant from = Instant.parse("2026-06-01T00:00:00Z");
+        Instant to = Instant.parse("2026-06-08T00:00:00Z");
+
+        when(statsService.getStats(from, to, StatsGranularity.DAY)).thenReturn(List.of(
+                new AuditStatsBucketDto(from, "CASE_STATUS_CHANGED", "LOW", "case-service", 42L)
+        ));
+
+        mockMvc.perform(get("/api/audit/stats")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .param("granularity", "DAY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].eventType").value("CASE_STATUS_CHANGED"))
+                .andExpect(jsonPath("$[0].count").value(42));
+    }
+
+    @Test
+    void shouldRejectInvalidStatsWindow() throws Exception {
+        Instant from = Instant.parse("2026-06-08T00:00:00Z");
+        Instant to = Instant.parse("2026-06-01T00:00:00Z");
+
+        when(statsService.getStats(from, to, StatsGranularity.HOUR))
+                .thenThrow(new InvalidStatsRangeException("from must be before to"));
+
+        mockMvc.perform(get("/api/audit/stats")
+                        .param("from", from.toString())
+                        .param("to", to.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
     private AuditEntryDto sampleDto() {
         var caseId = UUID.randomUUID();
         return new AuditEntryDto(
@@ -1,15 +1,21 @@
 package com.auditservice.listener;
 
 import com.auditservice.service.AuditService;
+import com.auditservice.tracing.Traced;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.govcaseflow.events.cases.CaseStatus;
 import com.govcaseflow.events.cases.CaseStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.Mockito.verify;
@@ -20,21 +26,54 @@ class CaseStatusChangedListenerTest {
     @Mock
     AuditService auditService;
 
-    @InjectMocks
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     CaseStatusChangedEventListener listener;
 
+    @BeforeEach
+    void setUp() {
+        listener = new CaseStatusChangedEventListener(auditService, objectMapper);
+    }
+
+    @Test
+    void shouldDelegateBatchWithTraceAndMessageIdsToAuditService() throws Exception {
+        CaseStatusChangedEvent first = event();
+        CaseStatusChangedEvent second = event();
+
+        listener.handle(List.of(message(first, "trace-1", "msg-1"), message(second, null, "msg-2")));
+
+        verify(auditService).saveCaseStatusChanges(List.of(
+                new Traced<>(first, "trace-1", "msg-1"),
+                new Traced<>(second, null, "msg-2")
+        ));
+    }
+
     @Test
-    void shouldDelegateEventToAuditService() {
-        CaseStatusChangedEvent event = new CaseStatusChangedEvent(
+    void shouldDropUnreadableMessageAndKeepRestOfBatch() throws Exception {
+        CaseStatusChangedEvent event = event();
+        Message garbage = new Message("not json".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+
+        listener.handle(List.of(garbage, message(event, "trace-1", "msg-1")));
+
+        verify(auditService).saveCaseStatusChanges(List.of(new Traced<>(event, "trace-1", "msg-1")));
+    }
+
+    private Message message(CaseStatusChangedEvent event, String traceId, String messageId) throws Exception {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(messageId);
+        if (traceId != null) {
+            properties.setHeader("traceId", traceId);
+        }
+        return new Message(objectMapper.writeValueAsBytes(event), properties);
+    }
+
+    private static CaseStatusChangedEvent event() {
+        return new CaseStatusChangedEvent(
                 UUID.randomUUID(),
                 CaseStatus.SUBMITTED,
                 CaseStatus.IN_REVIEW,
-                Instant.now(),
+                Instant.parse("2026-06-01T10:00:00Z"),
                 "SYSTEM"
         );
-
-        listener.handle(event, null);
-
-        verify(auditService).save(event);
     }
 }
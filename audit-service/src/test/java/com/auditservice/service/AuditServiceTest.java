@@ -0,0 +1,141 @@
+package com.auditservice.service;
+
+import com.auditservice.domain.AuditEntry;
+import com.auditservice.domain.AuditSeverity;
+import com.auditservice.mapper.AuditEntryMapper;
+import com.auditservice.repository.AuditInsertRepository;
+import com.auditservice.repository.AuditRepository;
+import com.auditservice.tracing.Traced;
+import com.govcaseflow.events.cases.CaseStatus;
+import com.govcaseflow.events.cases.CaseStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditServiceTest {
+
+    @Mock
+    AuditRepository repository;
+
+    @Mock
+    AuditInsertRepository insertRepository;
+
+    @Mock
+    MessageIdempotencyStore idempotencyStore;
+
+    @Mock
+    AuditStatsService statsService;
+
+    @Mock
+    AuditLogPartitionService partitionService;
+
+    @Mock
+    AuditEntryMapper mapper;
+
+    @InjectMocks
+    AuditService auditService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteOnlyClaimedMessagesOnce() {
+        when(idempotencyStore.claim(Set.of("m-1", "m-2", "m-3"))).thenReturn(Set.of("m-1", "m-3"));
+        when(partitionService.retainedFrom()).thenReturn(Instant.EPOCH);
+
+        auditService.saveCaseStatusChanges(List.of(
+                traced("trace", "m-1", CaseStatus.REJECTED),
+                traced("trace", "m-2", CaseStatus.APPROVED),
+                traced("trace", "m-3", CaseStatus.IN_REVIEW),
+                traced("trace", "m-3", CaseStatus.IN_REVIEW)
+        ));
+
+        ArgumentCaptor<List<AuditEntry>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(insertRepository).insertAll(inserted.capture());
+        // the same trace covers several status changes; each message is written once
+        assertThat(inserted.getValue())
+                .extracting(AuditEntry::getTraceId, AuditEntry::getSeverity)
+                .containsExactly(
+                        tuple("trace", AuditSeverity.HIGH),
+                        tuple("trace", AuditSeverity.LOW)
+                );
+        verify(statsService).record(inserted.getValue());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldNotBuildEntriesWhenWholeBatchWasProcessed() {
+        when(idempotencyStore.claim(Set.of("m-1"))).thenReturn(Set.of());
+
+        auditService.saveCaseStatusChanges(List.of(traced("trace", "m-1", CaseStatus.APPROVED)));
+
+        verify(insertRepository, never()).insertAll(anyList());
+        verifyNoInteractions(statsService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepMessagesWithoutIdAndGiveUntracedOnesOwnTraceId() {
+        when(partitionService.retainedFrom()).thenReturn(Instant.EPOCH);
+
+        auditService.saveCaseStatusChanges(List.of(
+                traced(null, null, CaseStatus.APPROVED),
+                traced(null, null, CaseStatus.APPROVED)
+        ));
+
+        verifyNoInteractions(idempotencyStore);
+        ArgumentCaptor<List<AuditEntry>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(insertRepository).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).hasSize(2)
+                .extracting(AuditEntry::getTraceId)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSkipEntriesPastRetentionAndEnsurePartitionsOfTheRest() {
+        Instant retainedFrom = Instant.parse("2024-06-01T00:00:00Z");
+        Instant recent = Instant.parse("2026-06-01T10:00:00Z");
+        when(partitionService.retainedFrom()).thenReturn(retainedFrom);
+
+        auditService.saveCaseStatusChanges(List.of(
+                traced("old", null, CaseStatus.APPROVED, retainedFrom.minusSeconds(1)),
+                traced("new", null, CaseStatus.APPROVED, recent)
+        ));
+
+        verify(partitionService).ensurePartitionsFor(List.of(recent));
+        ArgumentCaptor<List<AuditEntry>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(insertRepository).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(AuditEntry::getTraceId).containsExactly("new");
+    }
+
+    private static Traced<CaseStatusChangedEvent> traced(String traceId, String messageId, CaseStatus newStatus) {
+        return traced(traceId, messageId, newStatus, Instant.now());
+    }
+
+    private static Traced<CaseStatusChangedEvent> traced(
+            String traceId, String messageId, CaseStatus newStatus, Instant changedAt
+    ) {
+        return new Traced<>(
+                new CaseStatusChangedEvent(UUID.randomUUID(), CaseStatus.SUBMITTED, newStatus, changedAt, "officer"),
+                traceId,
+                messageId
+        );
+    }
+}
@@ -0,0 +1,145 @@
+package com.auditservice.service;
+
+import com.auditservice.domain.AuditEntry;
+import com.auditservice.domain.AuditEventType;
+import com.auditservice.domain.AuditSeverity;
+import com.auditservice.domain.StatsGranularity;
+import com.auditservice.exception.InvalidStatsRangeException;
+import com.auditservice.repository.AuditStatsRepository;
+import com.auditservice.repository.AuditStatsRepository.StatsKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditStatsServiceTest {
+
+    @Mock
+    AuditStatsRepository statsRepository;
+
+    @Mock
+    AuditLogPartitionService partitionService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    AuditStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new AuditStatsService(statsRepository, partitionService, transactionManager, 48);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldAggregateBatchPerBucketBeforeWriting() {
+        statsService.record(List.of(
+                entry("2026-06-01T10:15:00Z", AuditSeverity.LOW),
+                entry("2026-06-01T10:45:00Z", AuditSeverity.LOW),
+                entry("2026-06-01T11:05:00Z", AuditSeverity.HIGH)
+        ));
+
+        ArgumentCaptor<List<Map.Entry<StatsKey, Long>>> hourly = ArgumentCaptor.forClass(List.class);
+        verify(statsRepository).increment(eq(StatsGranularity.HOUR), hourly.capture());
+        assertThat(hourly.getValue()).containsExactly(
+                Map.entry(key("2026-06-01T10:00:00Z", AuditSeverity.LOW), 2L),
+                Map.entry(key("2026-06-01T11:00:00Z", AuditSeverity.HIGH), 1L)
+        );
+
+        ArgumentCaptor<List<Map.Entry<StatsKey, Long>>> daily = ArgumentCaptor.forClass(List.class);
+        verify(statsRepository).increment(eq(StatsGranularity.DAY), daily.capture());
+        assertThat(daily.getValue()).containsExactly(
+                Map.entry(key("2026-06-01T00:00:00Z", AuditSeverity.HIGH), 1L),
+                Map.entry(key("2026-06-01T00:00:00Z", AuditSeverity.LOW), 2L)
+        );
+    }
+
+    @Test
+    void shouldWidenWindowToWholeBuckets() {
+        statsService.getStats(
+                Instant.parse("2026-06-01T10:15:00Z"),
+                Instant.parse("2026-06-01T12:30:00Z"),
+                StatsGranularity.HOUR
+        );
+
+        verify(statsRepository).findBuckets(
+                StatsGranularity.HOUR,
+                Instant.parse("2026-06-01T10:00:00Z"),
+                Instant.parse("2026-06-01T13:00:00Z")
+        );
+    }
+
+    @Test
+    void shouldRejectWindowWithTooManyBuckets() {
+        assertThatThrownBy(() -> statsService.getStats(
+                Instant.parse("2026-06-01T00:00:00Z"),
+                Instant.parse("2026-06-03T01:00:00Z"),
+                StatsGranularity.HOUR
+        )).isInstanceOf(InvalidStatsRangeException.class);
+    }
+
+    @Test
+    void shouldRebuildOneDayPerTransaction() {
+        when(partitionService.retainedFrom()).thenReturn(Instant.parse("2024-06-01T00:00:00Z"));
+
+        int days = statsService.rebuild(
+                Instant.parse("2026-06-01T06:00:00Z"),
+                Instant.parse("2026-06-03T06:00:00Z")
+        );
+
+        assertThat(days).isEqualTo(3);
+        verify(statsRepository, times(3)).lockForRebuild();
+        verify(statsRepository).rebuild(
+                StatsGranularity.HOUR,
+                Instant.parse("2026-06-03T00:00:00Z"),
+                Instant.parse("2026-06-04T00:00:00Z")
+        );
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void shouldNotRebuildDaysPastRetention() {
+        when(partitionService.retainedFrom()).thenReturn(Instant.parse("2026-06-01T00:00:00Z"));
+
+        int days = statsService.rebuild(
+                Instant.parse("2026-05-30T00:00:00Z"),
+                Instant.parse("2026-06-02T00:00:00Z")
+        );
+
+        assertThat(days).isEqualTo(1);
+        verify(statsRepository).rebuild(
+                StatsGranularity.DAY,
+                Instant.parse("2026-06-01T00:00:00Z"),
+                Instant.parse("2026-06-02T00:00:00Z")
+        );
+    }
+
+    private static AuditEntry entry(String changedAt, AuditSeverity severity) {
+        return AuditEntry.builder()
+                .changedAt(Instant.parse(changedAt))
+                .eventType(AuditEventType.CASE_STATUS_CHANGED)
+                .severity(severity)
+                .sourceService("case-service")
+                .build();
+    }
+
+    private static StatsKey key(String bucketStart, AuditSeverity severity) {
+        return new StatsKey(Instant.parse(bucketStart), "CASE_STATUS_CHANGED", severity.name(), "case-service");
+    }
+}
@@ -0,0 +1,80 @@
+package com.auditservice.service;
+
+import com.auditservice.repository.ProcessedMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageIdempotencyStoreTest {
+
+    @Mock
+    ProcessedMessageRepository repository;
+
+    MessageIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MessageIdempotencyStore(repository, Duration.ofHours(1), 100, Duration.ofDays(7));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldAnswerCommittedIdsFromMemory() {
+        when(repository.claim(anyCollection(), any())).thenReturn(Set.of("m-1"));
+
+        assertThat(store.claim(Set.of("m-1"))).containsExactly("m-1");
+        commit();
+
+        assertThat(store.claim(Set.of("m-1"))).isEmpty();
+        verify(repository).claim(eq(List.of("m-1")), any());
+    }
+
+    @Test
+    void shouldClaimAgainAfterRollback() {
+        when(repository.claim(anyCollection(), any())).thenReturn(Set.of("m-1"));
+
+        store.claim(Set.of("m-1"));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(store.claim(Set.of("m-1"))).containsExactly("m-1");
+    }
+
+    @Test
+    void shouldReturnOnlyIdsTheDatabaseHadNotSeen() {
+        when(repository.claim(anyCollection(), any())).thenReturn(Set.of("m-2"));
+
+        assertThat(store.claim(Set.of("m-1", "m-2"))).containsExactly("m-2");
+        verify(repository, never()).deleteProcessedBefore(any());
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
@@ -3,7 +3,7 @@ package com.authservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication(scanBasePackages = "com")
+@SpringBootApplication(scanBasePackages = {"com.authservice", "com.govcaseflow.infrastructure"})
 public class AuthServiceApplication {
 
     public static void main(String[] args) {
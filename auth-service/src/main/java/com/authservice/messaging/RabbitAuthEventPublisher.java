@@ -11,6 +11,8 @@ import org.slf4j.MDC;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -43,6 +45,8 @@ public class RabbitAuthEventPublisher implements AuthEventPublisher {
                 routingKey,
                 event,
                 message -> {
+                    // lets consumers recognise a redelivery of this message
+                    message.getMessageProperties().setMessageId(UUID.randomUUID().toString());
                     String traceId = MDC.get("traceId");
                     if (traceId != null && !traceId.isBlank()) {
                         message.getMessageProperties().setHeader(TRACE_ID_HEADER, traceId);
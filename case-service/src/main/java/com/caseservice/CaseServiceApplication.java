@@ -3,7 +3,7 @@ package com.caseservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication(scanBasePackages = "com")
+@SpringBootApplication(scanBasePackages = {"com.caseservice", "com.govcaseflow.infrastructure"})
 public class CaseServiceApplication {
 
     public static void main(String[] args) {
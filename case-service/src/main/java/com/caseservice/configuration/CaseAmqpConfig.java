@@ -9,9 +9,39 @@ public class CaseAmqpConfig {
 
     public static final String EXCHANGE = "case.events.exchange";
     public static final String STATUS_CHANGED_KEY = "case.status.changed";
+    public static final String CACHE_INVALIDATE_KEY = "case.cache.invalidate";
+    public static final String SLA_BREACHED_KEY = "case.sla.breached";
 
     @Bean
     public TopicExchange caseExchange() {
         return new TopicExchange(EXCHANGE, true, false);
     }
-}
\ No newline at end of file
+
+    // one exclusive, auto-delete queue per replica, so every instance sees every invalidation
+    @Bean
+    public AnonymousQueue caseCacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding caseCacheInvalidationBinding(AnonymousQueue caseCacheInvalidationQueue, TopicExchange caseExchange) {
+        return BindingBuilder
+                .bind(caseCacheInvalidationQueue)
+                .to(caseExchange)
+                .with(CACHE_INVALIDATE_KEY);
+    }
+
+    // a second per-replica queue: every instance tracks every SLA deadline from the relayed status changes
+    @Bean
+    public AnonymousQueue caseSlaStatusQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding caseSlaStatusBinding(AnonymousQueue caseSlaStatusQueue, TopicExchange caseExchange) {
+        return BindingBuilder
+                .bind(caseSlaStatusQueue)
+                .to(caseExchange)
+                .with(STATUS_CHANGED_KEY);
+    }
+}
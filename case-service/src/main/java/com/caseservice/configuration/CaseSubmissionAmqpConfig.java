@@ -0,0 +1,55 @@
+package com.caseservice.configuration;
+
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Durable queue that absorbs case submissions, and the container factory of the workers that drain it.
+ * A fixed number of consumers each take up to {@code batch-size} messages at a time, so the
+ * database sees at most {@code workers} insert transactions however fast submissions arrive.
+ */
+@Configuration
+public class CaseSubmissionAmqpConfig {
+
+    // published through the default exchange, routing key = queue name
+    public static final String QUEUE = "case.submissions";
+    public static final String CONTAINER_FACTORY = "caseSubmissionContainerFactory";
+
+    @Bean
+    public Queue caseSubmissionQueue() {
+        return QueueBuilder.durable(QUEUE).build();
+    }
+
+    @Bean(name = CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory caseSubmissionContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Value("${case.submission.workers:2}") int workers,
+            @Value("${case.submission.batch-size:100}") int batchSize,
+            @Value("${case.submission.receive-timeout-ms:200}") long receiveTimeoutMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(workers);
+        factory.setMaxConcurrentConsumers(workers);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        // a partial batch is handed over after this long without a new message
+        factory.setReceiveTimeout(receiveTimeoutMs);
+
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("case-submission-"));
+        }
+
+        return factory;
+    }
+}
@@ -1,14 +1,28 @@
 package com.caseservice.controller;
 
 import com.caseservice.dto.response.CaseEntityDto;
+import com.caseservice.dto.response.CaseStatusDashboardResponse;
+import com.caseservice.dto.response.CursorPage;
+import com.caseservice.security.CurrentUser;
+import com.caseservice.security.CurrentUserProvider;
+import com.caseservice.service.CaseExportService;
+import com.caseservice.service.CaseImportService;
 import com.caseservice.service.CaseService;
+import com.caseservice.service.CaseStatusCounterService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 @RestController
@@ -18,10 +32,66 @@ import java.util.UUID;
 public class CaseAdminController {
 
     private final CaseService caseService;
+    private final CaseStatusCounterService counterService;
+    private final CaseImportService caseImportService;
+    private final CaseExportService caseExportService;
+    private final CurrentUserProvider currentUserProvider;
 
     @GetMapping
-    public Page<CaseEntityDto> getAll(Pageable pageable) {
-        return caseService.getAll(pageable);
+    public Slice<CaseEntityDto> getAll(
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        return withTotal ? caseService.getAll(pageable) : caseService.getAllSlice(pageable);
+    }
+
+    @GetMapping("/scroll")
+    public CursorPage<CaseEntityDto> getAllScroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return caseService.getAll(cursor, size);
+    }
+
+    @GetMapping("/dashboard")
+    public CaseStatusDashboardResponse dashboard() {
+        return counterService.dashboard();
+    }
+
+    /**
+     * Imports one case per NDJSON line and streams back one result line per input line.
+     */
+    @PostMapping(
+            value = "/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> importCases(HttpServletRequest request) throws IOException {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        InputStream body = request.getInputStream();
+
+        StreamingResponseBody report = output -> caseImportService.importCases(body, output, user.userId());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(report);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCases(
+            @RequestParam(defaultValue = "NDJSON") CaseExportService.Format format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        StreamingResponseBody body = output -> caseExportService.export(output, format, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format == CaseExportService.Format.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @DeleteMapping("/{caseId}")
@@ -1,20 +1,30 @@
 package com.caseservice.controller;
 
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.projection.CaseStatusHistoryEntry;
+import com.caseservice.dto.request.BulkChangeCaseStatusRequest;
+import com.caseservice.dto.request.CaseHistoryBatchRequest;
+import com.caseservice.dto.request.CaseSearchFilter;
 import com.caseservice.dto.request.ChangeCaseStatusRequest;
+import com.caseservice.dto.response.BulkStatusChangeResponse;
 import com.caseservice.dto.response.CaseEntityDto;
+import com.caseservice.dto.response.CursorPage;
 import com.caseservice.security.CurrentUser;
 import com.caseservice.security.CurrentUserProvider;
 import com.caseservice.service.CaseService;
+import com.caseservice.service.CaseStatusCounterService;
+import com.caseservice.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -24,11 +34,26 @@ import java.util.UUID;
 public class CaseOfficerController {
 
     private final CaseService caseService;
+    private final CaseStatusCounterService counterService;
     private final CurrentUserProvider currentUserProvider;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping("/queue/submitted")
-    public Page<CaseEntityDto> submittedQueue(Pageable pageable) {
-        return caseService.getSubmittedQueue(pageable);
+    public Slice<CaseEntityDto> submittedQueue(
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        return withTotal
+                ? caseService.getSubmittedQueue(pageable)
+                : caseService.getSubmittedQueueSlice(pageable);
+    }
+
+    @GetMapping("/queue/submitted/scroll")
+    public CursorPage<CaseEntityDto> submittedQueueScroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return caseService.getSubmittedQueue(cursor, size);
     }
 
     @PostMapping("/{id}/assign-to-me")
@@ -37,27 +62,115 @@ public class CaseOfficerController {
         return caseService.assignToMe(id, user.userId());
     }
 
+    @PostMapping("/claim-next")
+    public ResponseEntity<List<CaseEntityDto>> claimNext(@RequestParam(defaultValue = "1") int count) {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        List<CaseEntityDto> claimed = caseService.claimNext(user.userId(), count);
+
+        if (claimed.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(claimed);
+    }
+
     @GetMapping("/assigned-to-me")
-    public Page<CaseEntityDto> assignedToMe(Pageable pageable) {
+    public Slice<CaseEntityDto> assignedToMe(
+            Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
         CurrentUser user = currentUserProvider.getCurrentUser();
-        return caseService.getAssignedToMe(user.userId(), pageable);
+        return withTotal
+                ? caseService.getAssignedToMe(user.userId(), pageable)
+                : caseService.getAssignedToMeSlice(user.userId(), pageable);
+    }
+
+    @GetMapping("/assigned-to-me/scroll")
+    public CursorPage<CaseEntityDto> assignedToMeScroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        return caseService.getAssignedToMe(user.userId(), cursor, size);
     }
 
     @GetMapping()
-    public ResponseEntity<Page<CaseEntityDto>> getAllCases(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(caseService.getAll(pageable));
+    public ResponseEntity<Slice<CaseEntityDto>> getAllCases(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        return ResponseEntity.ok(withTotal ? caseService.getAll(pageable) : caseService.getAllSlice(pageable));
+    }
+
+    @GetMapping("/scroll")
+    public CursorPage<CaseEntityDto> getAllCasesScroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return caseService.getAll(cursor, size);
     }
 
+    /**
+     * Status, created date range, assigned officer and case-number prefix, in any combination.
+     */
+    @GetMapping("/search")
+    public CursorPage<CaseEntityDto> search(
+            @ParameterObject @Valid CaseSearchFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return caseService.search(filter, cursor, size);
+    }
+
+    @GetMapping("/{caseId}/history")
+    public CursorPage<CaseStatusHistoryEntry> history(
+            @PathVariable UUID caseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return caseService.getHistory(caseId, cursor, size);
+    }
+
+    @PostMapping("/history")
+    public Map<UUID, List<CaseStatusHistoryEntry>> histories(@RequestBody @Valid CaseHistoryBatchRequest request) {
+        return caseService.getHistories(request.caseIds());
+    }
+
+    @GetMapping("/dashboard")
+    public Map<CaseStatus, Long> myDashboard() {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        return counterService.countsForOfficer(user.userId());
+    }
+
+    /**
+     * A retry carrying the same {@code Idempotency-Key} gets the first 204 back instead of an
+     * invalid-transition conflict from the status it already moved to.
+     */
     @PatchMapping("/{caseId}/status")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void changeStatus(
+    public ResponseEntity<Void> changeStatus(
             @PathVariable UUID caseId,
-            @RequestBody @Valid ChangeCaseStatusRequest request
+            @RequestBody @Valid ChangeCaseStatusRequest request,
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey
     ) {
         CurrentUser user = currentUserProvider.getCurrentUser();
 
-        caseService.changeStatus(
-                caseId,
+        return idempotencyService.execute(idempotencyKey, user.userId(), "change-status", List.of(caseId, request),
+                () -> {
+                    caseService.changeStatus(
+                            caseId,
+                            request.newStatus(),
+                            user.userId(),
+                            user.isAdmin()
+                    );
+                    return ResponseEntity.noContent().build();
+                });
+    }
+
+    @PatchMapping("/status")
+    public BulkStatusChangeResponse changeStatusBulk(@RequestBody @Valid BulkChangeCaseStatusRequest request) {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+
+        return caseService.changeStatusBulk(
+                request.caseIds(),
                 request.newStatus(),
                 user.userId(),
                 user.isAdmin()
@@ -3,20 +3,24 @@ package com.caseservice.controller;
 import com.caseservice.dto.request.CreateCaseRequest;
 import com.caseservice.dto.response.CaseEntityDto;
 import com.caseservice.dto.response.CaseResponse;
+import com.caseservice.dto.response.CaseSubmissionResponse;
 import com.caseservice.security.CurrentUser;
 import com.caseservice.security.CurrentUserProvider;
 import com.caseservice.service.CaseService;
+import com.caseservice.service.CaseSubmissionService;
+import com.caseservice.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.UUID;
 
 @RestController
@@ -26,24 +30,64 @@ import java.util.UUID;
 public class CaseUserController {
 
     private final CaseService caseService;
+    private final CaseSubmissionService submissionService;
+    private final IdempotencyService idempotencyService;
     private final CurrentUserProvider currentUserProvider;
 
+    /**
+     * A retry carrying the same {@code Idempotency-Key} gets the first 201 back instead of a
+     * duplicate case-number conflict.
+     */
     @PostMapping
     public ResponseEntity<CaseResponse> createCase(
+            @Valid @RequestBody CreateCaseRequest createCaseRequest,
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey
+    ) {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+
+        return idempotencyService.execute(idempotencyKey, user.userId(), "create-case", createCaseRequest,
+                () -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(caseService.createCase(createCaseRequest, user.userId())));
+    }
+
+    /**
+     * Queues the case for creation and answers 202 as soon as the broker has it; the case itself
+     * is inserted by a worker. Poll the returned status URL for the outcome.
+     */
+    @PostMapping("/submissions")
+    public ResponseEntity<CaseSubmissionResponse> submitCase(
             @Valid @RequestBody CreateCaseRequest createCaseRequest
     ) {
         CurrentUser user = currentUserProvider.getCurrentUser();
+        CaseSubmissionResponse submission = submissionService.submit(createCaseRequest, user.userId());
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(caseService.createCase(createCaseRequest, user.userId()));
+        return ResponseEntity.accepted()
+                .location(URI.create(submission.statusUrl()))
+                .body(submission);
     }
 
+    @GetMapping("/submissions/{submissionId}")
+    public ResponseEntity<CaseSubmissionResponse> getSubmission(@PathVariable UUID submissionId) {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+
+        return ResponseEntity.ok(submissionService.getStatus(submissionId, user.userId()));
+    }
+
+    /**
+     * Returns a count-free slice (hasNext only) unless {@code withTotal=true} asks for
+     * totalElements/totalPages, which costs an extra COUNT query.
+     */
     @GetMapping
-    public ResponseEntity<Page<CaseEntityDto>> getMyCases(
-            @ParameterObject @PageableDefault(size = 10, sort = "createdAt") Pageable pageable
+    public ResponseEntity<Slice<CaseEntityDto>> getMyCases(
+            @ParameterObject @PageableDefault(size = 10, sort = "createdAt") Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withTotal
     ) {
         CurrentUser user = currentUserProvider.getCurrentUser();
-        return ResponseEntity.ok(caseService.getAllForUser(user.userId(), pageable));
+
+        if (withTotal) {
+            return ResponseEntity.ok(caseService.getAllForUser(user.userId(), pageable));
+        }
+        return ResponseEntity.ok(caseService.getSliceForUser(user.userId(), pageable));
     }
 
     @GetMapping("/{caseId}")
@@ -54,5 +54,8 @@ public class CaseEntity {
     @Column(name = "assigned_at")
     private Instant assignedAt;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
 
 }
@@ -0,0 +1,7 @@
+package com.caseservice.domain;
+
+public enum CaseSubmissionStatus {
+    PENDING,
+    CREATED,
+    REJECTED
+}
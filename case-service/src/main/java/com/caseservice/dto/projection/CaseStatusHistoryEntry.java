@@ -0,0 +1,18 @@
+package com.caseservice.dto.projection;
+
+import com.caseservice.domain.CaseStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One status transition of a case, selected straight into this record for the history endpoints.
+ */
+public record CaseStatusHistoryEntry(
+        UUID id,
+        UUID caseId,
+        CaseStatus oldStatus,
+        CaseStatus newStatus,
+        Instant changedAt,
+        String changedBy
+) {}
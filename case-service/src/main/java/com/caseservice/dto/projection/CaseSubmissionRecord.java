@@ -0,0 +1,20 @@
+package com.caseservice.dto.projection;
+
+import com.caseservice.domain.CaseSubmissionStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outcome of a processed submission, as stored in {@code case_submissions}.
+ */
+public record CaseSubmissionRecord(
+        UUID submissionId,
+        String caseNumber,
+        CaseSubmissionStatus status,
+        UUID caseId,
+        String reason,
+        UUID userId,
+        Instant submittedAt,
+        Instant processedAt
+) {}
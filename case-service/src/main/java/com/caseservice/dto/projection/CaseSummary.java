@@ -0,0 +1,18 @@
+package com.caseservice.dto.projection;
+
+import com.caseservice.domain.CaseStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only view of the columns the listing endpoints return, selected straight
+ * into this record so Hibernate never builds or snapshots a managed {@code CaseEntity}.
+ */
+public record CaseSummary(
+        UUID id,
+        String caseNumber,
+        CaseStatus status,
+        String applicantPesel,
+        Instant createdAt
+) {}
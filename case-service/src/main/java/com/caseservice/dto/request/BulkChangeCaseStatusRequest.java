@@ -0,0 +1,19 @@
+package com.caseservice.dto.request;
+
+import com.caseservice.domain.CaseStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkChangeCaseStatusRequest(
+
+        @NotEmpty
+        @Size(max = 500)
+        List<@NotNull UUID> caseIds,
+
+        @NotNull
+        CaseStatus newStatus
+) {}
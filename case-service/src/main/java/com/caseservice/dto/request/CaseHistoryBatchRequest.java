@@ -0,0 +1,15 @@
+package com.caseservice.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CaseHistoryBatchRequest(
+
+        @NotEmpty
+        @Size(max = 100)
+        List<@NotNull UUID> caseIds
+) {}
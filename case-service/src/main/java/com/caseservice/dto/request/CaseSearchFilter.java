@@ -0,0 +1,36 @@
+package com.caseservice.dto.request;
+
+import com.caseservice.domain.CaseStatus;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Officer case search; every field is optional and the set ones are combined with AND.
+ * {@code createdFrom} is inclusive, {@code createdTo} exclusive.
+ */
+public record CaseSearchFilter(
+
+        CaseStatus status,
+
+        Instant createdFrom,
+
+        Instant createdTo,
+
+        UUID assignedOfficerId,
+
+        @Size(max = 50)
+        String caseNumberPrefix
+) {
+
+    @AssertTrue(message = "createdFrom must be before createdTo")
+    public boolean isCreatedRangeValid() {
+        return createdFrom == null || createdTo == null || createdFrom.isBefore(createdTo);
+    }
+
+    public boolean hasCaseNumberPrefix() {
+        return caseNumberPrefix != null && !caseNumberPrefix.isEmpty();
+    }
+}
@@ -1,13 +1,18 @@
 package com.caseservice.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
+// constraints mirror the cases columns, so a queued submission cannot fail its insert
 public record CreateCaseRequest(
 
         @NotBlank
+        @Size(max = 50)
         String caseNumber,
 
+        @NotNull
         @Pattern(regexp = "\\d{11}")
         String applicantPesel
 ) {}
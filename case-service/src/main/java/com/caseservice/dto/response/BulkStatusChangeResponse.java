@@ -0,0 +1,9 @@
+package com.caseservice.dto.response;
+
+import java.util.List;
+
+public record BulkStatusChangeResponse(
+        int requested,
+        int changed,
+        List<CaseStatusChangeResult> results
+) {}
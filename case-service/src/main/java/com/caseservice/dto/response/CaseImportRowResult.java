@@ -0,0 +1,31 @@
+package com.caseservice.dto.response;
+
+import java.util.UUID;
+
+public record CaseImportRowResult(
+        long line,
+        String caseNumber,
+        Outcome outcome,
+        UUID caseId,
+        String message
+) {
+
+    public enum Outcome {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static CaseImportRowResult created(long line, String caseNumber, UUID caseId) {
+        return new CaseImportRowResult(line, caseNumber, Outcome.CREATED, caseId, null);
+    }
+
+    public static CaseImportRowResult duplicate(long line, String caseNumber) {
+        return new CaseImportRowResult(line, caseNumber, Outcome.DUPLICATE, null,
+                "Case with the same case number already exists");
+    }
+
+    public static CaseImportRowResult invalid(long line, String caseNumber, String message) {
+        return new CaseImportRowResult(line, caseNumber, Outcome.INVALID, null, message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.caseservice.dto.response;
+
+import com.caseservice.domain.CaseStatus;
+
+import java.util.UUID;
+
+public record CaseStatusChangeResult(
+        UUID caseId,
+        Outcome outcome,
+        CaseStatus oldStatus,
+        CaseStatus newStatus,
+        String message
+) {
+
+    public enum Outcome {
+        CHANGED,
+        NOT_FOUND,
+        ACCESS_DENIED,
+        INVALID_TRANSITION
+    }
+
+    public static CaseStatusChangeResult changed(UUID caseId, CaseStatus oldStatus, CaseStatus newStatus) {
+        return new CaseStatusChangeResult(caseId, Outcome.CHANGED, oldStatus, newStatus, null);
+    }
+
+    public static CaseStatusChangeResult rejected(UUID caseId, Outcome outcome, CaseStatus currentStatus, String message) {
+        return new CaseStatusChangeResult(caseId, outcome, currentStatus, null, message);
+    }
+}
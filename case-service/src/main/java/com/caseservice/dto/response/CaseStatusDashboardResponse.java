@@ -0,0 +1,11 @@
+package com.caseservice.dto.response;
+
+import com.caseservice.domain.CaseStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record CaseStatusDashboardResponse(
+        Map<CaseStatus, Long> overall,
+        Map<UUID, Map<CaseStatus, Long>> byOfficer
+) {}
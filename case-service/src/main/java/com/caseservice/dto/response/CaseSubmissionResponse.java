@@ -0,0 +1,17 @@
+package com.caseservice.dto.response;
+
+import com.caseservice.domain.CaseSubmissionStatus;
+
+import java.util.UUID;
+
+/**
+ * State of an asynchronous case submission. {@code caseId} is set once the case is CREATED,
+ * {@code reason} when it is REJECTED.
+ */
+public record CaseSubmissionResponse(
+        UUID submissionId,
+        CaseSubmissionStatus status,
+        UUID caseId,
+        String reason,
+        String statusUrl
+) {}
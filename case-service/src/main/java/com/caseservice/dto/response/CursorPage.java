@@ -0,0 +1,10 @@
+package com.caseservice.dto.response;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {}
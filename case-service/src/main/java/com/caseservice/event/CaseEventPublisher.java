@@ -1,7 +1,13 @@
 package com.caseservice.event;
 
+import com.govcaseflow.events.cases.CaseCacheInvalidatedEvent;
+import com.govcaseflow.events.cases.CaseSlaBreachedEvent;
 import com.govcaseflow.events.cases.CaseStatusChangedEvent;
 
 public interface CaseEventPublisher {
     void publishStatusChanged(CaseStatusChangedEvent event);
+
+    void publishSlaBreached(CaseSlaBreachedEvent event);
+
+    void publishCacheInvalidated(CaseCacheInvalidatedEvent event);
 }
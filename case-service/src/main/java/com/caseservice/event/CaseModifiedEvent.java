@@ -0,0 +1,10 @@
+package com.caseservice.event;
+
+import java.util.UUID;
+
+/**
+ * Published inside a transaction that changed or deleted a case; the invalidation for other
+ * replicas is written to the outbox with it, and cached reads of the case are dropped once
+ * that transaction commits.
+ */
+public record CaseModifiedEvent(UUID caseId) {}
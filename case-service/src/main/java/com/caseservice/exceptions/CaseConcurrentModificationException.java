@@ -0,0 +1,7 @@
+package com.caseservice.exceptions;
+
+public class CaseConcurrentModificationException extends RuntimeException {
+    public CaseConcurrentModificationException(String message) {
+        super(message);
+    }
+}
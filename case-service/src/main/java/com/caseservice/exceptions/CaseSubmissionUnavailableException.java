@@ -0,0 +1,7 @@
+package com.caseservice.exceptions;
+
+public class CaseSubmissionUnavailableException extends RuntimeException {
+    public CaseSubmissionUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -100,6 +101,79 @@ public class GlobalExceptionHandler extends BaseGlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(HttpServletRequest request,
+                                                                      InvalidCursorException ex) {
+        return buildResponse(
+                request,
+                HttpStatus.BAD_REQUEST,
+                ErrorCode.VALIDATION_ERROR,
+                ex.getMessage(),
+                null
+        );
+    }
+
+    @ExceptionHandler(CaseConcurrentModificationException.class)
+    public ResponseEntity<ErrorResponse> handleCaseConcurrentModificationException(HttpServletRequest request,
+                                                                                   CaseConcurrentModificationException ex) {
+        return buildResponse(
+                request,
+                HttpStatus.CONFLICT,
+                ErrorCode.BUSINESS_RULE_VIOLATION,
+                ex.getMessage(),
+                null
+        );
+    }
+
+    // version check failed on a flush of a managed CaseEntity (assignment, bulk status change)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(HttpServletRequest request,
+                                                                                 OptimisticLockingFailureException ex) {
+        return buildResponse(
+                request,
+                HttpStatus.CONFLICT,
+                ErrorCode.BUSINESS_RULE_VIOLATION,
+                "Case was modified concurrently, reload it and retry",
+                null
+        );
+    }
+
+    @ExceptionHandler(CaseSubmissionUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleCaseSubmissionUnavailableException(HttpServletRequest request,
+                                                                                  CaseSubmissionUnavailableException ex) {
+        return buildResponse(
+                request,
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ErrorCode.INTERNAL_ERROR,
+                ex.getMessage(),
+                null
+        );
+    }
+
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKeyException(HttpServletRequest request,
+                                                                              InvalidIdempotencyKeyException ex) {
+        return buildResponse(
+                request,
+                HttpStatus.BAD_REQUEST,
+                ErrorCode.VALIDATION_ERROR,
+                ex.getMessage(),
+                null
+        );
+    }
+
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflictException(HttpServletRequest request,
+                                                                               IdempotencyKeyConflictException ex) {
+        return buildResponse(
+                request,
+                HttpStatus.CONFLICT,
+                ErrorCode.BUSINESS_RULE_VIOLATION,
+                ex.getMessage(),
+                null
+        );
+    }
+
 //    @Override
 //    protected ResponseEntity<Object> handleMethodArgumentNotValid(
 //            MethodArgumentNotValidException ex,
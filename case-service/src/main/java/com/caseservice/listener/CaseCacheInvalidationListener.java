@@ -0,0 +1,47 @@
+package com.caseservice.listener;
+
+import com.caseservice.event.CaseEventPublisher;
+import com.caseservice.event.CaseModifiedEvent;
+import com.caseservice.service.CaseCache;
+import com.govcaseflow.events.cases.CaseCacheInvalidatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CaseCacheInvalidationListener {
+
+    private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+    private final CaseCache caseCache;
+
+    private final CaseEventPublisher caseEventPublisher;
+
+    // the broadcast goes through the outbox, so a slow or unavailable broker never holds up the write
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void broadcastInvalidation(CaseModifiedEvent event) {
+        caseEventPublisher.publishCacheInvalidated(new CaseCacheInvalidatedEvent(event.caseId(), INSTANCE_ID));
+    }
+
+    // AFTER_COMMIT so the next miss reads the committed row; CaseCache drops reads that were already in flight
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCaseModified(CaseModifiedEvent event) {
+        caseCache.evict(event.caseId());
+    }
+
+    @RabbitListener(queues = "#{caseCacheInvalidationQueue.name}")
+    public void onInvalidationBroadcast(CaseCacheInvalidatedEvent event) {
+        if (INSTANCE_ID.equals(event.origin())) {
+            return;
+        }
+        log.debug("Evicting case {} on broadcast from {}", event.caseId(), event.origin());
+        caseCache.evict(event.caseId());
+    }
+}
@@ -0,0 +1,23 @@
+package com.caseservice.listener;
+
+import com.caseservice.service.CaseSlaService;
+import com.govcaseflow.events.cases.CaseStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CaseSlaStatusListener {
+
+    private final CaseSlaService slaService;
+
+    // relayed from the outbox, so this replica's own changes arrive here too
+    @RabbitListener(queues = "#{caseSlaStatusQueue.name}")
+    public void onStatusChanged(CaseStatusChangedEvent event) {
+        log.debug("Refreshing SLA deadline of case {} after change to {}", event.caseId(), event.newStatus());
+        slaService.refresh(event.caseId());
+    }
+}
@@ -1,6 +1,6 @@
 package com.caseservice.listener;
 
-import com.caseservice.messaging.RabbitCaseEventPublisher;
+import com.caseservice.event.CaseEventPublisher;
 import com.govcaseflow.events.cases.CaseStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,11 +13,12 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Slf4j
 public class CaseStatusChangedEventListener {
 
-    private final RabbitCaseEventPublisher rabbitPublisher;
+    private final CaseEventPublisher caseEventPublisher;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // BEFORE_COMMIT keeps the outbox row in the same transaction as the status change
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handle(CaseStatusChangedEvent event) {
-        log.info("AFTER_COMMIT -> publish to Rabbit: {}", event);
-        rabbitPublisher.publishStatusChanged(event);
+        log.info("BEFORE_COMMIT -> write to outbox: {}", event);
+        caseEventPublisher.publishStatusChanged(event);
     }
-}
\ No newline at end of file
+}
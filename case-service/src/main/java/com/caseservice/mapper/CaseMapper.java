@@ -1,6 +1,7 @@
 package com.caseservice.mapper;
 
 import com.caseservice.domain.CaseEntity;
+import com.caseservice.dto.projection.CaseSummary;
 import com.caseservice.dto.response.CaseEntityDto;
 import com.caseservice.dto.response.CaseResponse;
 import org.springframework.stereotype.Component;
@@ -18,6 +19,16 @@ public class CaseMapper {
                 .build();
     }
 
+    public CaseEntityDto toDto(CaseSummary summary) {
+        return CaseEntityDto.builder()
+                .id(summary.id())
+                .caseNumber(summary.caseNumber())
+                .applicantPesel(summary.applicantPesel())
+                .status(summary.status())
+                .createdAt(summary.createdAt().toString())
+                .build();
+    }
+
     public CaseResponse toResponse(CaseEntity caseEntity) {
         return new CaseResponse(
                 caseEntity.getId(),
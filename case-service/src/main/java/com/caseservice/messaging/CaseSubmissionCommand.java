@@ -0,0 +1,15 @@
+package com.caseservice.messaging;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A validated case submission waiting on {@code case.submissions} to be inserted by a worker.
+ */
+public record CaseSubmissionCommand(
+        UUID submissionId,
+        String caseNumber,
+        String applicantPesel,
+        UUID userId,
+        Instant submittedAt
+) {}
@@ -0,0 +1,50 @@
+package com.caseservice.messaging;
+
+import com.caseservice.configuration.CaseSubmissionAmqpConfig;
+import com.caseservice.service.CaseSubmissionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands each batch taken from {@code case.submissions} to {@link CaseSubmissionService#processBatch}.
+ * If processing throws, the whole batch is requeued; reprocessing it is safe because
+ * submissions that already have a result are skipped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaseSubmissionListener {
+
+    private final CaseSubmissionService submissionService;
+    private final ObjectMapper objectMapper;
+
+    @RabbitListener(
+            queues = CaseSubmissionAmqpConfig.QUEUE,
+            containerFactory = CaseSubmissionAmqpConfig.CONTAINER_FACTORY
+    )
+    public void onSubmissions(List<Message> messages) {
+        List<CaseSubmissionCommand> commands = new ArrayList<>(messages.size());
+
+        for (Message message : messages) {
+            try {
+                commands.add(objectMapper.readValue(message.getBody(), CaseSubmissionCommand.class));
+            } catch (IOException ex) {
+                // requeueing would only fail again
+                log.error("Dropping unreadable case submission {}: {}",
+                        message.getMessageProperties().getMessageId(), ex.getMessage());
+            }
+        }
+
+        if (!commands.isEmpty()) {
+            submissionService.processBatch(commands);
+        }
+    }
+}
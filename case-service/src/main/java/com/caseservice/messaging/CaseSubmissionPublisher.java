@@ -0,0 +1,102 @@
+package com.caseservice.messaging;
+
+import com.caseservice.configuration.CaseSubmissionAmqpConfig;
+import com.caseservice.exceptions.CaseSubmissionUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.govcaseflow.infrastructure.tracing.TraceConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Puts a submission on {@code case.submissions} and returns only once the broker has confirmed
+ * it, so a 202 is never sent for a submission that could still be lost.
+ */
+@Slf4j
+@Component
+public class CaseSubmissionPublisher {
+
+    private static final String UNAVAILABLE = "Case submissions are temporarily unavailable, retry later";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final long confirmTimeoutMs;
+    private final boolean publisherConfirms;
+
+    public CaseSubmissionPublisher(
+            @Qualifier("caseRabbitTemplate") RabbitTemplate rabbitTemplate,
+            ObjectMapper objectMapper,
+            @Value("${case.submission.confirm-timeout-ms:5000}") long confirmTimeoutMs
+    ) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.publisherConfirms = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+    }
+
+    public void publish(CaseSubmissionCommand command) {
+        CorrelationData correlation = new CorrelationData(command.submissionId().toString());
+
+        try {
+            rabbitTemplate.send("", CaseSubmissionAmqpConfig.QUEUE, toMessage(command), correlation);
+        } catch (AmqpException ex) {
+            log.warn("Case submission {} not sent: {}", command.submissionId(), ex.getMessage());
+            throw new CaseSubmissionUnavailableException(UNAVAILABLE);
+        }
+
+        if (!publisherConfirms) {
+            return;
+        }
+
+        try {
+            CorrelationData.Confirm confirm = correlation.getFuture().get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+            if (!confirm.isAck()) {
+                log.warn("Case submission {} nacked: {}", command.submissionId(), confirm.getReason());
+                throw new CaseSubmissionUnavailableException(UNAVAILABLE);
+            }
+            if (correlation.getReturned() != null) {
+                log.warn("Case submission {} was not routed to {}", command.submissionId(), CaseSubmissionAmqpConfig.QUEUE);
+                throw new CaseSubmissionUnavailableException(UNAVAILABLE);
+            }
+        } catch (TimeoutException | ExecutionException ex) {
+            log.warn("Case submission {} not confirmed: {}", command.submissionId(), ex.toString());
+            throw new CaseSubmissionUnavailableException(UNAVAILABLE);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CaseSubmissionUnavailableException(UNAVAILABLE);
+        }
+    }
+
+    private Message toMessage(CaseSubmissionCommand command) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId(command.submissionId().toString());
+        String traceId = MDC.get(TraceConstants.TRACE_ID_MDC_KEY);
+        if (traceId != null) {
+            properties.setHeader(TraceConstants.TRACE_ID_HEADER, traceId);
+        }
+
+        try {
+            return new Message(objectMapper.writeValueAsBytes(command), properties);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
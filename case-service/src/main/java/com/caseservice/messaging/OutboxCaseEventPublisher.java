@@ -0,0 +1,81 @@
+package com.caseservice.messaging;
+
+import com.caseservice.configuration.CaseAmqpConfig;
+import com.caseservice.domain.OutboxEvent;
+import com.caseservice.event.CaseEventPublisher;
+import com.caseservice.repository.OutboxEventRepository;
+import com.govcaseflow.events.cases.CaseCacheInvalidatedEvent;
+import com.govcaseflow.events.cases.CaseSlaBreachedEvent;
+import com.govcaseflow.events.cases.CaseStatusChangedEvent;
+import com.govcaseflow.infrastructure.tracing.TraceConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Writes events to the {@code case_outbox} table instead of sending them to RabbitMQ.
+ * Must be called inside the business transaction; {@link OutboxRelay} delivers the rows later.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxCaseEventPublisher implements CaseEventPublisher {
+
+    private final OutboxEventRepository outboxRepository;
+
+    private final Jackson2JsonMessageConverter messageConverter;
+
+    private final Clock clock;
+
+    @Override
+    public void publishStatusChanged(CaseStatusChangedEvent event) {
+        enqueue(event.caseId(), CaseAmqpConfig.EXCHANGE, CaseAmqpConfig.STATUS_CHANGED_KEY, event);
+    }
+
+    @Override
+    public void publishSlaBreached(CaseSlaBreachedEvent event) {
+        enqueue(event.caseId(), CaseAmqpConfig.EXCHANGE, CaseAmqpConfig.SLA_BREACHED_KEY, event);
+    }
+
+    @Override
+    public void publishCacheInvalidated(CaseCacheInvalidatedEvent event) {
+        enqueue(event.caseId(), CaseAmqpConfig.EXCHANGE, CaseAmqpConfig.CACHE_INVALIDATE_KEY, event);
+    }
+
+    private void enqueue(UUID aggregateId, String exchange, String routingKey, Object event) {
+        String traceId = MDC.get(TraceConstants.TRACE_ID_MDC_KEY);
+        if (traceId == null || traceId.isBlank()) {
+            traceId = UUID.randomUUID().toString();
+        }
+
+        // serialize with the same converter the relay's RabbitTemplate uses, so the wire format is unchanged
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        String eventType = message.getMessageProperties()
+                .getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .exchange(exchange)
+                .routingKey(routingKey)
+                .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+                .messageId(UUID.randomUUID().toString())
+                .traceId(traceId)
+                .createdAt(Instant.now(clock))
+                .build();
+
+        outboxRepository.save(outboxEvent);
+
+        log.info("Enqueued {} for aggregate {} in outbox traceId={}", eventType, aggregateId, traceId);
+    }
+}
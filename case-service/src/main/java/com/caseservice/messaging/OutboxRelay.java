@@ -0,0 +1,262 @@
+package com.caseservice.messaging;
+
+import com.caseservice.domain.OutboxEvent;
+import com.caseservice.repository.OutboxEventRepository;
+import com.govcaseflow.infrastructure.tracing.TraceConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code case_outbox} in batches: sends every locked row, then waits for the
+ * publisher confirms of the whole batch before marking rows as published.
+ * <p>
+ * A failed row is retried after an exponential backoff and parked once it has used up
+ * {@code max-attempts}; parked rows stay in the table for inspection but are no longer relayed.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final Duration retention;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final boolean publisherConfirms;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxRepository,
+            @Qualifier("caseRabbitTemplate") RabbitTemplate rabbitTemplate,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${case.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${case.outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+            @Value("${case.outbox.retention:P7D}") Duration retention,
+            @Value("${case.outbox.relay.max-attempts:20}") int maxAttempts,
+            @Value("${case.outbox.relay.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${case.outbox.relay.max-backoff:PT10M}") Duration maxBackoff
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.retention = retention;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.publisherConfirms = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+
+        if (!publisherConfirms) {
+            log.warn("Publisher confirms are disabled - outbox rows will be marked published as soon as they are sent");
+        }
+
+        this.publishedCounter = Counter.builder("case.outbox.published")
+                .description("Outbox events confirmed by the broker")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("case.outbox.failed")
+                .description("Outbox publish attempts that were nacked, timed out or threw")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("case.outbox.relay.batch")
+                .description("Time to send and confirm one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("case.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events not yet published")
+                .register(meterRegistry);
+        Gauge.builder("case.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Age in seconds of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("case.outbox.parked", parked, AtomicLong::get)
+                .description("Outbox events that ran out of attempts and are no longer relayed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${case.outbox.relay.fixed-delay-ms:500}")
+    @Transactional
+    public void relayPending() {
+        List<OutboxEvent> batch = outboxRepository.lockNextBatch(Instant.now(clock), batchSize);
+
+        if (!batch.isEmpty()) {
+            batchTimer.record(() -> publishBatch(batch));
+        }
+
+        refreshBacklogMetrics();
+    }
+
+    @Scheduled(cron = "${case.outbox.cleanup.cron:0 0 * * * *}")
+    @Transactional
+    public void purgePublished() {
+        int deleted = outboxRepository.deletePublishedBefore(Instant.now(clock).minus(retention));
+        if (deleted > 0) {
+            log.info("Purged {} published outbox events older than {}", deleted, retention);
+        }
+    }
+
+    private void publishBatch(List<OutboxEvent> batch) {
+        List<InFlight> inFlight = new ArrayList<>(batch.size());
+
+        for (OutboxEvent event : batch) {
+            CorrelationData correlation = new CorrelationData(event.getMessageId());
+            try {
+                rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlation);
+                inFlight.add(new InFlight(event, correlation));
+            } catch (AmqpException ex) {
+                markFailed(event, ex.getMessage());
+            }
+        }
+
+        if (!publisherConfirms) {
+            Instant now = Instant.now(clock);
+            inFlight.forEach(sent -> markPublished(sent.event(), now));
+            return;
+        }
+
+        awaitConfirms(inFlight);
+        Instant now = Instant.now(clock);
+
+        for (InFlight sent : inFlight) {
+            CompletableFuture<CorrelationData.Confirm> future = sent.correlation().getFuture();
+            if (!future.isDone()) {
+                markFailed(sent.event(), "confirm timeout after " + confirmTimeoutMs + " ms");
+                continue;
+            }
+
+            try {
+                CorrelationData.Confirm confirm = future.join();
+
+                if (confirm.isAck()) {
+                    if (sent.correlation().getReturned() != null) {
+                        log.warn("Outbox event {} was not routed to any queue (routingKey={})",
+                                sent.event().getMessageId(), sent.event().getRoutingKey());
+                    }
+                    markPublished(sent.event(), now);
+                } else {
+                    markFailed(sent.event(), "nack: " + confirm.getReason());
+                }
+            } catch (CompletionException ex) {
+                markFailed(sent.event(), ex.getCause().getMessage());
+            }
+        }
+    }
+
+    /**
+     * Waits for the confirms of the whole batch against one deadline, so a broker that stops
+     * confirming holds the row locks for {@code confirmTimeoutMs} at most, not once per row.
+     */
+    private void awaitConfirms(List<InFlight> inFlight) {
+        CompletableFuture<?>[] futures = inFlight.stream()
+                .map(sent -> sent.correlation().getFuture())
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(futures).get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException ex) {
+            // rows still without a confirm are failed by the caller; failed futures are read one by one
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setMessageId(event.getMessageId());
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getEventType());
+        properties.setHeader(TraceConstants.TRACE_ID_HEADER, event.getTraceId());
+
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private void markPublished(OutboxEvent event, Instant publishedAt) {
+        event.setPublishedAt(publishedAt);
+        event.setLastError(null);
+        publishedCounter.increment();
+    }
+
+    private void markFailed(OutboxEvent event, String reason) {
+        int attempts = event.getAttempts() + 1;
+        Instant now = Instant.now(clock);
+
+        event.setAttempts(attempts);
+        event.setLastError(truncate(reason));
+        failedCounter.increment();
+
+        if (attempts >= maxAttempts) {
+            event.setParkedAt(now);
+            event.setNextAttemptAt(null);
+            log.error("Outbox event {} parked after {} attempts: {}", event.getMessageId(), attempts, reason);
+            return;
+        }
+
+        Duration backoff = backoff(attempts);
+        event.setNextAttemptAt(now.plus(backoff));
+        log.warn("Outbox event {} not published (attempt {}), retrying in {}: {}",
+                event.getMessageId(), attempts, backoff, reason);
+    }
+
+    /** initialBackoff doubled for every attempt after the first, capped at maxBackoff. */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void refreshBacklogMetrics() {
+        pending.set(outboxRepository.countByPublishedAtIsNullAndParkedAtIsNull());
+        parked.set(outboxRepository.countByParkedAtIsNotNull());
+        lagMillis.set(outboxRepository.findOldestPendingCreatedAt()
+                .map(oldest -> Duration.between(oldest, Instant.now(clock)).toMillis())
+                .orElse(0L));
+    }
+
+    private static String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_ERROR_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record InFlight(OutboxEvent event, CorrelationData correlation) {}
+}
@@ -1,49 +0,0 @@
-package com.caseservice.messaging;
-
-import com.caseservice.configuration.CaseAmqpConfig;
-import com.caseservice.event.CaseEventPublisher;
-import com.govcaseflow.events.cases.CaseStatusChangedEvent;
-import com.govcaseflow.infrastructure.tracing.TraceConstants;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Component;
-
-import java.util.UUID;
-
-@Slf4j
-@Component
-@RequiredArgsConstructor
-public class RabbitCaseEventPublisher implements CaseEventPublisher {
-
-    private final @Qualifier("caseRabbitTemplate") RabbitTemplate rabbitTemplate;
-
-    @Override
-    public void publishStatusChanged(CaseStatusChangedEvent event) {
-        String traceId = MDC.get(TraceConstants.TRACE_ID_MDC_KEY);
-        if (traceId == null || traceId.isBlank()) {
-            traceId = UUID.randomUUID().toString();
-        }
-
-        log.info("Publishing CaseStatusChangedEvent: {} traceId={}", event, traceId);
-
-        String finalTraceId = traceId;
-
-        rabbitTemplate.convertAndSend(
-                CaseAmqpConfig.EXCHANGE,
-                CaseAmqpConfig.STATUS_CHANGED_KEY, // ✅ fix
-                event,
-                message -> {
-                    message.getMessageProperties()
-                            .setMessageId(UUID.randomUUID().toString());
-
-                    message.getMessageProperties()
-                            .setHeader(TraceConstants.TRACE_ID_HEADER, finalTraceId);
-
-                    return message;
-                }
-        );
-    }
-}
\ No newline at end of file
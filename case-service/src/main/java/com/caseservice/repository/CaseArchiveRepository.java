@@ -0,0 +1,173 @@
+package com.caseservice.repository;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.projection.CaseStatusHistoryEntry;
+import com.caseservice.dto.projection.CaseSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * {@code cases_archive} and {@code case_status_history_archive}: closed cases moved out of the hot tables.
+ * Every move runs as DELETE ... RETURNING feeding an INSERT, so a row is never in both tables.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CaseArchiveRepository {
+
+    private static final String LOCK_CLOSED_BEFORE = """
+            SELECT id FROM cases
+            WHERE status = 'CLOSED' AND updated_at < :cutoff
+            ORDER BY updated_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String MOVE_HISTORY = """
+            WITH moved AS (
+                DELETE FROM case_status_history
+                WHERE case_id IN (:ids)
+                RETURNING id, case_id, old_status, new_status, changed_at, changed_by
+            )
+            INSERT INTO case_status_history_archive (id, case_id, old_status, new_status, changed_at, changed_by)
+            SELECT id, case_id, old_status, new_status, changed_at, changed_by FROM moved
+            """;
+
+    private static final String MOVE_CASES = """
+            WITH moved AS (
+                DELETE FROM cases
+                WHERE id IN (:ids)
+                RETURNING id, case_number, status, applicant_pesel, created_at, updated_at,
+                          created_by_user_id, assigned_officer_id, assigned_at, version
+            )
+            INSERT INTO cases_archive (id, case_number, status, applicant_pesel, created_at, updated_at,
+                                       created_by_user_id, assigned_officer_id, assigned_at, version, archived_at)
+            SELECT id, case_number, status, applicant_pesel, created_at, updated_at,
+                   created_by_user_id, assigned_officer_id, assigned_at, version, :archivedAt
+            FROM moved
+            """;
+
+    private static final String SELECT_SUMMARIES = """
+            SELECT id, case_number, status, applicant_pesel, created_at
+            FROM cases_archive
+            ORDER BY created_at, id
+            """;
+
+    // same keyset as CaseStatusHistoryRepository.findByCaseIdAfter, on idx_case_status_history_archive_case_changed_at_id
+    private static final String SELECT_HISTORY_AFTER = """
+            SELECT id, case_id, old_status, new_status, changed_at, changed_by
+            FROM case_status_history_archive
+            WHERE case_id = :caseId
+              AND changed_at >= :changedAt
+              AND (changed_at > :changedAt OR id > :id)
+            ORDER BY changed_at, id
+            LIMIT :limit
+            """;
+
+    private static final String SELECT_HISTORIES = """
+            SELECT id, case_id, old_status, new_status, changed_at, changed_by
+            FROM case_status_history_archive
+            WHERE case_id IN (:caseIds)
+            ORDER BY case_id, changed_at, id
+            """;
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final RowMapper<CaseSummary> SUMMARY_MAPPER = (rs, rowNum) -> new CaseSummary(
+            rs.getObject("id", UUID.class),
+            rs.getString("case_number"),
+            CaseStatus.valueOf(rs.getString("status")),
+            rs.getString("applicant_pesel"),
+            rs.getTimestamp("created_at").toInstant()
+    );
+
+    private static final RowMapper<CaseStatusHistoryEntry> HISTORY_MAPPER = (rs, rowNum) -> new CaseStatusHistoryEntry(
+            rs.getObject("id", UUID.class),
+            rs.getObject("case_id", UUID.class),
+            CaseStatus.valueOf(rs.getString("old_status")),
+            CaseStatus.valueOf(rs.getString("new_status")),
+            rs.getTimestamp("changed_at").toInstant(),
+            rs.getString("changed_by")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<CaseSummary> findSummaryById(UUID id) {
+        return jdbcTemplate.query(
+                "SELECT id, case_number, status, applicant_pesel, created_at FROM cases_archive WHERE id = :id",
+                new MapSqlParameterSource("id", id),
+                SUMMARY_MAPPER
+        ).stream().findFirst();
+    }
+
+    public boolean existsById(UUID id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM cases_archive WHERE id = :id)",
+                new MapSqlParameterSource("id", id),
+                Boolean.class
+        ));
+    }
+
+    /**
+     * Server-side cursor over every archived case, like {@code CaseRepository.streamAllSummaries}:
+     * must be consumed and closed inside a transaction so the driver honours the fetch size.
+     */
+    public Stream<CaseSummary> streamAllSummaries() {
+        return jdbcTemplate.getJdbcOperations().queryForStream(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT_SUMMARIES);
+                    statement.setFetchSize(EXPORT_FETCH_SIZE);
+                    return statement;
+                },
+                SUMMARY_MAPPER
+        );
+    }
+
+    public List<CaseStatusHistoryEntry> findHistoryAfter(UUID caseId, Instant changedAt, UUID id, int limit) {
+        return jdbcTemplate.query(
+                SELECT_HISTORY_AFTER,
+                new MapSqlParameterSource()
+                        .addValue("caseId", caseId)
+                        .addValue("changedAt", Timestamp.from(changedAt))
+                        .addValue("id", id)
+                        .addValue("limit", limit),
+                HISTORY_MAPPER
+        );
+    }
+
+    public List<CaseStatusHistoryEntry> findHistoriesByCaseIds(Collection<UUID> caseIds) {
+        return jdbcTemplate.query(SELECT_HISTORIES, new MapSqlParameterSource("caseIds", caseIds), HISTORY_MAPPER);
+    }
+
+    /** Locks up to {@code limit} cases CLOSED before {@code cutoff}, skipping rows other transactions hold. */
+    public List<UUID> lockClosedBefore(Instant cutoff, int limit) {
+        return jdbcTemplate.queryForList(
+                LOCK_CLOSED_BEFORE,
+                new MapSqlParameterSource()
+                        .addValue("cutoff", Timestamp.from(cutoff))
+                        .addValue("limit", limit),
+                UUID.class
+        );
+    }
+
+    /** Moves the cases and their history to the archive; must run in the transaction that locked them. */
+    public int archive(Collection<UUID> caseIds, Instant archivedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", caseIds)
+                .addValue("archivedAt", Timestamp.from(archivedAt));
+
+        jdbcTemplate.update(MOVE_HISTORY, parameters);
+        return jdbcTemplate.update(MOVE_CASES, parameters);
+    }
+}
@@ -1,21 +1,52 @@
 package com.caseservice.repository;
 
 import com.caseservice.domain.CaseEntity;
+import com.caseservice.dto.projection.CaseSummary;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.caseservice.domain.CaseStatus;
 
 import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CaseRepository extends JpaRepository<CaseEntity, UUID> {
 
+    String SUMMARY_SELECT = "select new com.caseservice.dto.projection.CaseSummary("
+            + "c.id, c.caseNumber, c.status, c.applicantPesel, c.createdAt) from CaseEntity c ";
+
     Optional<CaseEntity> findByCaseNumber(String caseNumber);
 
-    boolean existsByCaseNumber(String caseNumber);
+    // Case numbers stay unique across archived cases too.
+
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM cases WHERE case_number = :caseNumber)
+                OR EXISTS (SELECT 1 FROM cases_archive WHERE case_number = :caseNumber)
+            """, nativeQuery = true)
+    boolean existsByCaseNumber(@Param("caseNumber") String caseNumber);
+
+    @Query(value = """
+            SELECT case_number FROM cases WHERE case_number IN (:caseNumbers)
+            UNION ALL
+            SELECT case_number FROM cases_archive WHERE case_number IN (:caseNumbers)
+            """, nativeQuery = true)
+    List<String> findExistingCaseNumbers(@Param("caseNumbers") Collection<String> caseNumbers);
 
     Page<CaseEntity> findAllByCreatedByUserId(UUID userId, Pageable pageable);
 
@@ -23,4 +54,134 @@ public interface CaseRepository extends JpaRepository<CaseEntity, UUID> {
 
     Page<CaseEntity> findAllByStatus(CaseStatus status, Pageable pageable);
 
+    // Projection read path: DTO rows only, nothing enters the persistence context.
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + "where c.id = :id")
+    Optional<CaseSummary> findSummaryById(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "select count(c) from CaseEntity c")
+    Page<CaseSummary> findAllSummaries(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = SUMMARY_SELECT + "where c.createdByUserId = :userId",
+            countQuery = "select count(c) from CaseEntity c where c.createdByUserId = :userId")
+    Page<CaseSummary> findSummariesByCreatedByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = SUMMARY_SELECT + "where c.assignedOfficerId = :officerId",
+            countQuery = "select count(c) from CaseEntity c where c.assignedOfficerId = :officerId")
+    Page<CaseSummary> findSummariesByAssignedOfficerId(@Param("officerId") UUID officerId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = SUMMARY_SELECT + "where c.status = :status",
+            countQuery = "select count(c) from CaseEntity c where c.status = :status")
+    Page<CaseSummary> findSummariesByStatus(@Param("status") CaseStatus status, Pageable pageable);
+
+    // Slice variants: Spring Data reads one row past the page to fill hasNext and never issues the COUNT.
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT)
+    Slice<CaseSummary> findAllSummarySlice(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + "where c.createdByUserId = :userId")
+    Slice<CaseSummary> findSummarySliceByCreatedByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + "where c.assignedOfficerId = :officerId")
+    Slice<CaseSummary> findSummarySliceByAssignedOfficerId(@Param("officerId") UUID officerId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + "where c.status = :status")
+    Slice<CaseSummary> findSummarySliceByStatus(@Param("status") CaseStatus status, Pageable pageable);
+
+    // Server-side cursor for exports: must be consumed inside a transaction so the driver honours the fetch size.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    @Query(SUMMARY_SELECT + "order by c.createdAt, c.id")
+    Stream<CaseSummary> streamAllSummaries();
+
+    // Keyset variants: seek past (createdAt, id) using the composite indexes, no OFFSET and no COUNT.
+    // "createdAt >= :createdAt" is the index range condition, the OR only filters rows sharing that timestamp.
+    // The Pageable only carries the row limit.
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + """
+            where c.status = :status
+              and c.createdAt >= :createdAt
+              and (c.createdAt > :createdAt or c.id > :id)
+            order by c.createdAt, c.id
+            """)
+    List<CaseSummary> findSummariesByStatusAfter(@Param("status") CaseStatus status,
+                                                 @Param("createdAt") Instant createdAt,
+                                                 @Param("id") UUID id,
+                                                 Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + """
+            where c.assignedOfficerId = :officerId
+              and c.createdAt >= :createdAt
+              and (c.createdAt > :createdAt or c.id > :id)
+            order by c.createdAt, c.id
+            """)
+    List<CaseSummary> findSummariesByAssignedOfficerIdAfter(@Param("officerId") UUID officerId,
+                                                            @Param("createdAt") Instant createdAt,
+                                                            @Param("id") UUID id,
+                                                            Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SUMMARY_SELECT + """
+            where c.createdAt >= :createdAt
+              and (c.createdAt > :createdAt or c.id > :id)
+            order by c.createdAt, c.id
+            """)
+    List<CaseSummary> findSummariesAfter(@Param("createdAt") Instant createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable limit);
+
+    /**
+     * Locks the oldest unassigned SUBMITTED cases. Rows already locked by another
+     * officer's claim are skipped instead of waited on, so concurrent claims never contend.
+     */
+    @Query(value = """
+            SELECT * FROM cases
+            WHERE status = 'SUBMITTED'
+              AND assigned_officer_id IS NULL
+            ORDER BY created_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<CaseEntity> lockNextUnassignedSubmitted(@Param("limit") int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CaseEntity c where c.id = :id")
+    Optional<CaseEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Applies a status transition only if the case is still in {@code expectedStatus} at
+     * {@code expectedVersion}, and writes the history row in the same statement.
+     * Returns 0 when another transaction changed the case first.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            WITH updated AS (
+                UPDATE cases
+                SET status = :newStatus, version = version + 1, updated_at = :changedAt
+                WHERE id = :id AND status = :expectedStatus AND version = :expectedVersion
+                RETURNING id
+            )
+            INSERT INTO case_status_history (case_id, old_status, new_status, changed_at, changed_by)
+            SELECT id, :expectedStatus, :newStatus, :changedAt, :changedBy FROM updated
+            """, nativeQuery = true)
+    int transitionStatus(@Param("id") UUID id,
+                         @Param("expectedStatus") String expectedStatus,
+                         @Param("expectedVersion") long expectedVersion,
+                         @Param("newStatus") String newStatus,
+                         @Param("changedAt") Instant changedAt,
+                         @Param("changedBy") String changedBy);
 }
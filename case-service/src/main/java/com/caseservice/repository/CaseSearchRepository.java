@@ -0,0 +1,103 @@
+package com.caseservice.repository;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.projection.CaseSummary;
+import com.caseservice.dto.request.CaseSearchFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Officer case search. Builds one parameterised statement containing only the predicates of the
+ * filters that are set, so PostgreSQL plans each combination on its matching index
+ * instead of a single catch-all {@code (:x is null or col = :x)} plan that degrades to a sequential scan.
+ * <p>
+ * Results are keyset-paged on (created_at, id) like the other case listings.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CaseSearchRepository {
+
+    private static final RowMapper<CaseSummary> SUMMARY_MAPPER = (rs, rowNum) -> new CaseSummary(
+            rs.getObject("id", UUID.class),
+            rs.getString("case_number"),
+            CaseStatus.valueOf(rs.getString("status")),
+            rs.getString("applicant_pesel"),
+            rs.getTimestamp("created_at").toInstant()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /** Returns up to {@code limit} matching rows after the keyset position (createdAt, id). */
+    public List<CaseSummary> search(CaseSearchFilter filter, Instant createdAt, UUID id, int limit) {
+        SearchQuery query = SearchQuery.of(filter, createdAt, id, limit);
+        return jdbcTemplate.query(query.sql(), query.parameters(), SUMMARY_MAPPER);
+    }
+
+    public record SearchQuery(String sql, MapSqlParameterSource parameters) {
+
+        public static SearchQuery of(CaseSearchFilter filter, Instant createdAt, UUID id, int limit) {
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("afterCreatedAt", Timestamp.from(createdAt))
+                    .addValue("afterId", id)
+                    .addValue("limit", limit);
+
+            StringBuilder sql = new StringBuilder("""
+                    SELECT id, case_number, status, applicant_pesel, created_at
+                    FROM cases
+                    WHERE created_at >= :afterCreatedAt
+                      AND (created_at > :afterCreatedAt OR id > :afterId)
+                    """);
+
+            if (filter.status() != null) {
+                sql.append("  AND status = :status\n");
+                parameters.addValue("status", filter.status().name());
+            }
+            if (filter.assignedOfficerId() != null) {
+                sql.append("  AND assigned_officer_id = :officerId\n");
+                parameters.addValue("officerId", filter.assignedOfficerId());
+            }
+            if (filter.createdFrom() != null) {
+                sql.append("  AND created_at >= :createdFrom\n");
+                parameters.addValue("createdFrom", Timestamp.from(filter.createdFrom()));
+            }
+            if (filter.createdTo() != null) {
+                sql.append("  AND created_at < :createdTo\n");
+                parameters.addValue("createdTo", Timestamp.from(filter.createdTo()));
+            }
+            if (filter.hasCaseNumberPrefix()) {
+                // a range on the "C" collation is what LIKE 'prefix%' is rewritten to, but it also
+                // uses idx_cases_case_number_prefix when the driver switches to a generic plan
+                sql.append("  AND (case_number COLLATE \"C\") >= :prefixFrom\n");
+                parameters.addValue("prefixFrom", filter.caseNumberPrefix());
+
+                String prefixTo = prefixUpperBound(filter.caseNumberPrefix());
+                if (prefixTo != null) {
+                    sql.append("  AND (case_number COLLATE \"C\") < :prefixTo\n");
+                    parameters.addValue("prefixTo", prefixTo);
+                }
+            }
+
+            sql.append("ORDER BY created_at, id\nLIMIT :limit");
+            return new SearchQuery(sql.toString(), parameters);
+        }
+
+        /** Smallest string greater than every string starting with {@code prefix}, or null if there is none. */
+        static String prefixUpperBound(String prefix) {
+            for (int i = prefix.length() - 1; i >= 0; i--) {
+                char c = prefix.charAt(i);
+                if (c != Character.MAX_VALUE) {
+                    return prefix.substring(0, i) + (char) (c + 1);
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.caseservice.repository;
+
+import com.caseservice.domain.CaseStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * SLA state read from {@code cases} and the {@code case_sla_escalations} ledger, which records
+ * each stint in a status escalated so far. A stint is identified by the case, the status and the
+ * time the case entered it, so a case that returns to a status is escalated again; the ledger's
+ * primary key lets exactly one replica escalate each stint.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CaseSlaRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT_OPEN = """
+            SELECT c.id, c.status, COALESCE(c.updated_at, c.created_at) AS entered_at
+            FROM cases c
+            WHERE c.status = ANY (?)
+              AND NOT EXISTS (
+                  SELECT 1 FROM case_sla_escalations e
+                  WHERE e.case_id = c.id AND e.status = c.status
+                    AND e.entered_at = COALESCE(c.updated_at, c.created_at)
+              )
+            """;
+
+    private static final String SELECT_ONE = """
+            SELECT c.id, c.status, COALESCE(c.updated_at, c.created_at) AS entered_at
+            FROM cases c
+            WHERE c.id = ?
+              AND NOT EXISTS (
+                  SELECT 1 FROM case_sla_escalations e
+                  WHERE e.case_id = c.id AND e.status = c.status
+                    AND e.entered_at = COALESCE(c.updated_at, c.created_at)
+              )
+            """;
+
+    // records the escalation only if the case is still in the stint the deadline was set for
+    private static final String ESCALATE = """
+            WITH still_due AS (
+                SELECT id, status, COALESCE(updated_at, created_at) AS entered_at, assigned_officer_id
+                FROM cases
+                WHERE id = ? AND status = ? AND COALESCE(updated_at, created_at) = ?
+            ), recorded AS (
+                INSERT INTO case_sla_escalations (case_id, status, entered_at, deadline, escalated_at)
+                SELECT id, status, entered_at, ?, ? FROM still_due
+                ON CONFLICT (case_id, status, entered_at) DO NOTHING
+                RETURNING case_id
+            )
+            SELECT still_due.assigned_officer_id
+            FROM still_due JOIN recorded ON recorded.case_id = still_due.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Streams every case in one of {@code statuses} that has not been escalated in its current stint. */
+    public void forEachOpen(Collection<CaseStatus> statuses, Consumer<OpenCase> action) {
+        String[] names = statuses.stream().map(Enum::name).toArray(String[]::new);
+
+        jdbcTemplate.query(
+                connection -> {
+                    var statement = connection.prepareStatement(SELECT_OPEN);
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setArray(1, connection.createArrayOf("varchar", names));
+                    return statement;
+                },
+                rs -> {
+                    action.accept(toOpenCase(rs.getObject("id", UUID.class), rs.getString("status"),
+                            rs.getTimestamp("entered_at")));
+                }
+        );
+    }
+
+    public Optional<OpenCase> findOpen(UUID caseId) {
+        return jdbcTemplate.query(SELECT_ONE,
+                (rs, rowNum) -> toOpenCase(rs.getObject("id", UUID.class), rs.getString("status"),
+                        rs.getTimestamp("entered_at")),
+                caseId
+        ).stream().findFirst();
+    }
+
+    /**
+     * Records the escalation if the case is still in the {@code status} it entered at {@code enteredAt}.
+     * Empty when the case has moved on or another replica escalated this stint first.
+     */
+    public Optional<Escalated> escalate(UUID caseId, CaseStatus status, Instant enteredAt, Instant deadline,
+                                        Instant escalatedAt) {
+        return jdbcTemplate.query(ESCALATE,
+                (rs, rowNum) -> new Escalated(rs.getObject("assigned_officer_id", UUID.class)),
+                caseId,
+                status.name(),
+                Timestamp.from(enteredAt),
+                Timestamp.from(deadline),
+                Timestamp.from(escalatedAt)
+        ).stream().findFirst();
+    }
+
+    private static OpenCase toOpenCase(UUID id, String status, Timestamp enteredAt) {
+        return new OpenCase(id, CaseStatus.valueOf(status), enteredAt.toInstant());
+    }
+
+    public record OpenCase(UUID caseId, CaseStatus status, Instant enteredAt) {}
+
+    public record Escalated(UUID assignedOfficerId) {}
+}
@@ -1,10 +1,44 @@
 package com.caseservice.repository;
 
 import com.caseservice.domain.CaseStatusHistory;
+import com.caseservice.dto.projection.CaseStatusHistoryEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface CaseStatusHistoryRepository
         extends JpaRepository<CaseStatusHistory, UUID> {
+
+    String ENTRY_SELECT = "select new com.caseservice.dto.projection.CaseStatusHistoryEntry("
+            + "h.id, h.caseId, h.oldStatus, h.newStatus, h.changedAt, h.changedBy) from CaseStatusHistory h ";
+
+    // Both queries are served by idx_case_status_history_case_changed_at_id (case_id, changed_at, id).
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(ENTRY_SELECT + """
+            where h.caseId = :caseId
+              and h.changedAt >= :changedAt
+              and (h.changedAt > :changedAt or h.id > :id)
+            order by h.changedAt, h.id
+            """)
+    List<CaseStatusHistoryEntry> findByCaseIdAfter(@Param("caseId") UUID caseId,
+                                                   @Param("changedAt") Instant changedAt,
+                                                   @Param("id") UUID id,
+                                                   Pageable limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(ENTRY_SELECT + """
+            where h.caseId in :caseIds
+            order by h.caseId, h.changedAt, h.id
+            """)
+    List<CaseStatusHistoryEntry> findByCaseIdIn(@Param("caseIds") Collection<UUID> caseIds);
 }
@@ -0,0 +1,93 @@
+package com.caseservice.repository;
+
+import com.caseservice.domain.CaseSubmissionStatus;
+import com.caseservice.dto.projection.CaseSubmissionRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Outcomes of processed asynchronous submissions. A submission has no row until a worker
+ * has handled it, so a missing row means it is still queued.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CaseSubmissionRepository {
+
+    // ON CONFLICT makes a redelivered batch a no-op for submissions already recorded
+    private static final String INSERT_RESULT = """
+            INSERT INTO case_submissions
+                (id, case_number, status, case_id, reason, created_by_user_id, submitted_at, processed_at)
+            VALUES (:id, :caseNumber, :status, :caseId, :reason, :userId, :submittedAt, :processedAt)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final RowMapper<CaseSubmissionRecord> RECORD_MAPPER = (rs, rowNum) -> new CaseSubmissionRecord(
+            rs.getObject("id", UUID.class),
+            rs.getString("case_number"),
+            CaseSubmissionStatus.valueOf(rs.getString("status")),
+            rs.getObject("case_id", UUID.class),
+            rs.getString("reason"),
+            rs.getObject("created_by_user_id", UUID.class),
+            rs.getTimestamp("submitted_at").toInstant(),
+            rs.getTimestamp("processed_at").toInstant()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<CaseSubmissionRecord> findByIdAndUserId(UUID id, UUID userId) {
+        return jdbcTemplate.query("""
+                        SELECT id, case_number, status, case_id, reason, created_by_user_id, submitted_at, processed_at
+                        FROM case_submissions
+                        WHERE id = :id AND created_by_user_id = :userId
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("userId", userId),
+                RECORD_MAPPER
+        ).stream().findFirst();
+    }
+
+    public Set<UUID> findRecordedIds(Collection<UUID> ids) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM case_submissions WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                UUID.class
+        ));
+    }
+
+    public void saveAll(List<CaseSubmissionRecord> records) {
+        SqlParameterSource[] batch = records.stream()
+                .map(record -> new MapSqlParameterSource()
+                        .addValue("id", record.submissionId())
+                        .addValue("caseNumber", record.caseNumber())
+                        .addValue("status", record.status().name())
+                        .addValue("caseId", record.caseId())
+                        .addValue("reason", record.reason())
+                        .addValue("userId", record.userId())
+                        .addValue("submittedAt", Timestamp.from(record.submittedAt()))
+                        .addValue("processedAt", Timestamp.from(record.processedAt())))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(INSERT_RESULT, batch);
+    }
+
+    public int deleteProcessedBefore(Instant before) {
+        return jdbcTemplate.update(
+                "DELETE FROM case_submissions WHERE processed_at < :before",
+                new MapSqlParameterSource("before", Timestamp.from(before))
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.caseservice.repository;
+
+import com.caseservice.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Locks the oldest unpublished rows that are due for an attempt. SKIP LOCKED lets several
+     * relay instances drain the table concurrently without handing out the same row twice.
+     */
+    @Query(value = """
+            SELECT * FROM case_outbox
+            WHERE published_at IS NULL
+              AND parked_at IS NULL
+              AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    long countByPublishedAtIsNullAndParkedAtIsNull();
+
+    long countByParkedAtIsNotNull();
+
+    @Query("select min(o.createdAt) from OutboxEvent o where o.publishedAt is null and o.parkedAt is null")
+    Optional<Instant> findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("delete from OutboxEvent o where o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,77 @@
+package com.caseservice.service;
+
+import com.caseservice.repository.CaseArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves cases that have been CLOSED for longer than {@code closed-after} into the archive tables,
+ * so the indexes on {@code cases} and {@code case_status_history} only cover live work.
+ * <p>
+ * Each chunk is its own short transaction, so a large backlog never holds locks for long.
+ * Archived cases are still served by {@link CaseService#getById}.
+ */
+@Slf4j
+@Service
+public class CaseArchiveService {
+
+    private final CaseArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration closedAfter;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public CaseArchiveService(
+            CaseArchiveRepository archiveRepository,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${case.archive.closed-after:P90D}") Duration closedAfter,
+            @Value("${case.archive.chunk-size:500}") int chunkSize,
+            @Value("${case.archive.max-chunks-per-run:200}") int maxChunksPerRun
+    ) {
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.closedAfter = closedAfter;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(cron = "${case.archive.cron:0 0 2 * * *}")
+    public void archiveClosedCases() {
+        Instant now = Instant.now(clock);
+        Instant cutoff = now.minus(closedAfter);
+
+        long archived = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int moved = transactionTemplate.execute(status -> archiveChunk(cutoff, now));
+            archived += moved;
+            if (moved < chunkSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} cases closed before {}", archived, cutoff);
+        }
+    }
+
+    private int archiveChunk(Instant cutoff, Instant archivedAt) {
+        List<UUID> ids = archiveRepository.lockClosedBefore(cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return archiveRepository.archive(ids, archivedAt);
+    }
+}
@@ -0,0 +1,62 @@
+package com.caseservice.service;
+
+import com.caseservice.configuration.CacheConfig;
+import com.caseservice.dto.response.CaseEntityDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for {@link CaseService#getById}.
+ *
+ * A read that loaded a case before a write committed must not put that row back after the
+ * write's eviction. Every eviction bumps a counter for the case's stripe; a load only stays
+ * cached if the counter did not move while it ran. The put is checked after it lands, so an
+ * eviction racing with the put itself is caught as well.
+ */
+@Component
+public class CaseCache {
+
+    private static final int STRIPES = 1024;
+
+    private final Cache cache;
+
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+
+    public CaseCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CASES_CACHE),
+                "Cache " + CacheConfig.CASES_CACHE + " is not configured");
+    }
+
+    public CaseEntityDto get(UUID caseId, Supplier<CaseEntityDto> loader) {
+        CaseEntityDto cached = cache.get(caseId, CaseEntityDto.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(caseId);
+        long seen = evictions.get(stripe);
+        CaseEntityDto loaded = loader.get();
+
+        cache.put(caseId, loaded);
+        if (evictions.get(stripe) != seen) {
+            // evicted while loading, the row may predate the write that triggered it
+            cache.evict(caseId);
+        }
+        return loaded;
+    }
+
+    public void evict(UUID caseId) {
+        evictions.incrementAndGet(stripe(caseId));
+        cache.evict(caseId);
+    }
+
+    private static int stripe(UUID caseId) {
+        return (caseId.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+}
@@ -0,0 +1,56 @@
+package com.caseservice.service;
+
+import com.caseservice.dto.projection.CaseStatusHistoryEntry;
+import com.caseservice.dto.projection.CaseSummary;
+import com.caseservice.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a (createdAt, id) ordered case listing, or a (changedAt, id)
+ * ordered status history. Clients only ever see the opaque {@link #encode()} form.
+ */
+public record CaseCursor(Instant createdAt, UUID id) {
+
+    /** Sorts before every real row, used when the client starts from the first page. */
+    public static final CaseCursor START = new CaseCursor(Instant.EPOCH, new UUID(0L, 0L));
+
+    private static final String SEPARATOR = "|";
+
+    public static CaseCursor after(CaseSummary summary) {
+        return new CaseCursor(summary.createdAt(), summary.id());
+    }
+
+    public static CaseCursor after(CaseStatusHistoryEntry entry) {
+        return new CaseCursor(entry.changedAt(), entry.id());
+    }
+
+    public static CaseCursor decodeOrStart(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+            return new CaseCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
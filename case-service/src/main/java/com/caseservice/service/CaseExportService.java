@@ -0,0 +1,138 @@
+package com.caseservice.service;
+
+import com.caseservice.dto.projection.CaseSummary;
+import com.caseservice.dto.response.CaseEntityDto;
+import com.caseservice.mapper.CaseMapper;
+import com.caseservice.repository.CaseArchiveRepository;
+import com.caseservice.repository.CaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes every case to the response as it is read from a database cursor,
+ * with no page or count queries and no result list held in memory.
+ * <p>
+ * Live cases come first, then archived ones, each ordered by creation time. Both cursors read
+ * the same REPEATABLE READ snapshot, so a case archived during the export appears exactly once.
+ */
+@Slf4j
+@Service
+public class CaseExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER = "id,caseNumber,status,applicantPesel,createdAt";
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private final CaseRepository caseRepository;
+    private final CaseArchiveRepository archiveRepository;
+    private final CaseMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CaseExportService(
+            CaseRepository caseRepository,
+            CaseArchiveRepository archiveRepository,
+            CaseMapper mapper,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.caseRepository = caseRepository;
+        this.archiveRepository = archiveRepository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public void export(OutputStream output, Format format, boolean gzip) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(output, WRITE_BUFFER_SIZE) : output;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long exported;
+        try {
+            exported = readOnlyTransaction.execute(status -> {
+                long rows;
+                try (Stream<CaseSummary> cases = caseRepository.streamAllSummaries()) {
+                    rows = writeRows(writer, cases, format);
+                }
+                try (Stream<CaseSummary> archived = archiveRepository.streamAllSummaries()) {
+                    rows += writeRows(writer, archived, format);
+                }
+                return rows;
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+
+        log.info("Exported {} cases as {}{}", exported, format, gzip ? " (gzip)" : "");
+    }
+
+    private long writeRows(Writer writer, Stream<CaseSummary> cases, Format format) {
+        long rows = 0;
+        Iterator<CaseSummary> iterator = cases.iterator();
+        while (iterator.hasNext()) {
+            writeRow(writer, iterator.next(), format);
+            rows++;
+        }
+        return rows;
+    }
+
+    private void writeRow(Writer writer, CaseSummary summary, Format format) {
+        try {
+            if (format == Format.CSV) {
+                writer.write(String.join(",",
+                        summary.id().toString(),
+                        csv(summary.caseNumber()),
+                        summary.status().name(),
+                        csv(summary.applicantPesel()),
+                        summary.createdAt().toString()
+                ));
+            } else {
+                CaseEntityDto dto = mapper.toDto(summary);
+                writer.write(objectMapper.writeValueAsString(dto));
+            }
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,229 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.request.CreateCaseRequest;
+import com.caseservice.dto.response.CaseImportRowResult;
+import com.caseservice.repository.CaseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of legacy cases from NDJSON (one {@link CreateCaseRequest} per line).
+ * Input is read and written chunk by chunk, so memory does not grow with the file size.
+ * The report has one result per non-blank line, in line order.
+ */
+@Slf4j
+@Service
+public class CaseImportService {
+
+    // ON CONFLICT covers a case created through the API between the IN check and the insert
+    private static final String INSERT_CASE = """
+            INSERT INTO cases (id, case_number, status, applicant_pesel, created_at, created_by_user_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (case_number) DO NOTHING
+            """;
+
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final CaseRepository caseRepository;
+    private final CaseStatusCounterService counterService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public CaseImportService(
+            CaseRepository caseRepository,
+            CaseStatusCounterService counterService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            Clock clock,
+            @Value("${case.import.chunk-size:500}") int chunkSize
+    ) {
+        this.caseRepository = caseRepository;
+        this.counterService = counterService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    public void importCases(InputStream input, OutputStream output, UUID userId) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        List<CaseImportRowResult> invalid = new ArrayList<>();
+        long lineNumber = 0;
+        long created = 0;
+        long rejected = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            // invalid lines are held with the chunk so the report stays in line order
+            ParsedLine parsed = parse(lineNumber, line);
+            if (parsed.error() != null) {
+                invalid.add(parsed.error());
+            } else {
+                chunk.add(parsed.row());
+            }
+
+            if (chunk.size() + invalid.size() == chunkSize) {
+                long inserted = flushChunk(chunk, invalid, output, userId);
+                created += inserted;
+                rejected += chunk.size() + invalid.size() - inserted;
+                chunk.clear();
+                invalid.clear();
+            }
+        }
+
+        if (!chunk.isEmpty() || !invalid.isEmpty()) {
+            long inserted = flushChunk(chunk, invalid, output, userId);
+            created += inserted;
+            rejected += chunk.size() + invalid.size() - inserted;
+        }
+
+        output.flush();
+        log.info("Case import by user {} finished: {} created, {} rejected", userId, created, rejected);
+    }
+
+    private ParsedLine parse(long lineNumber, String line) {
+        CreateCaseRequest request;
+        try {
+            request = objectMapper.readValue(line, CreateCaseRequest.class);
+        } catch (JsonProcessingException ex) {
+            return ParsedLine.rejected(CaseImportRowResult.invalid(lineNumber, null, "Malformed JSON"));
+        }
+
+        Set<ConstraintViolation<CreateCaseRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return ParsedLine.rejected(CaseImportRowResult.invalid(lineNumber, request.caseNumber(), message));
+        }
+
+        return ParsedLine.accepted(new ImportRow(lineNumber, request, UUID.randomUUID()));
+    }
+
+    private long flushChunk(List<ImportRow> chunk, List<CaseImportRowResult> invalid, OutputStream output,
+                            UUID userId) throws IOException {
+        List<CaseImportRowResult> results = new ArrayList<>(chunk.size() + invalid.size());
+        if (!chunk.isEmpty()) {
+            results.addAll(transactionTemplate.execute(status -> insertChunk(chunk, userId)));
+        }
+        results.addAll(invalid);
+        results.sort((a, b) -> Long.compare(a.line(), b.line()));
+
+        for (CaseImportRowResult result : results) {
+            write(output, result);
+        }
+        output.flush();
+
+        return results.stream()
+                .filter(r -> r.outcome() == CaseImportRowResult.Outcome.CREATED)
+                .count();
+    }
+
+    private List<CaseImportRowResult> insertChunk(List<ImportRow> chunk, UUID userId) {
+        // one IN query per chunk instead of one existsByCaseNumber per row
+        Set<String> taken = new HashSet<>(caseRepository.findExistingCaseNumbers(
+                chunk.stream().map(row -> row.request().caseNumber()).toList()
+        ));
+
+        List<CaseImportRowResult> results = new ArrayList<>(chunk.size());
+        List<ImportRow> toInsert = new ArrayList<>(chunk.size());
+
+        for (ImportRow row : chunk) {
+            // add() also catches duplicates within the same file
+            if (taken.add(row.request().caseNumber())) {
+                toInsert.add(row);
+            } else {
+                results.add(CaseImportRowResult.duplicate(row.line(), row.request().caseNumber()));
+            }
+        }
+
+        Timestamp createdAt = Timestamp.from(Instant.now(clock));
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_CASE, toInsert, chunkSize, (ps, row) -> {
+            ps.setObject(1, row.id());
+            ps.setString(2, row.request().caseNumber());
+            ps.setString(3, CaseStatus.SUBMITTED.name());
+            ps.setString(4, row.request().applicantPesel());
+            ps.setTimestamp(5, createdAt);
+            ps.setObject(6, userId);
+        });
+
+        int index = 0;
+        int created = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                ImportRow row = toInsert.get(index++);
+                if (count == 0) {
+                    results.add(CaseImportRowResult.duplicate(row.line(), row.request().caseNumber()));
+                } else {
+                    results.add(CaseImportRowResult.created(row.line(), row.request().caseNumber(), row.id()));
+                    created++;
+                }
+            }
+        }
+        if (created > 0) {
+            counterService.caseCreated(CaseStatus.SUBMITTED, created);
+        }
+
+        return results;
+    }
+
+    private void write(OutputStream output, CaseImportRowResult result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write(NEW_LINE);
+    }
+
+    private record ImportRow(long line, CreateCaseRequest request, UUID id) {}
+
+    private record ParsedLine(ImportRow row, CaseImportRowResult error) {
+
+        static ParsedLine accepted(ImportRow row) {
+            return new ParsedLine(row, null);
+        }
+
+        static ParsedLine rejected(CaseImportRowResult error) {
+            return new ParsedLine(null, error);
+        }
+    }
+}
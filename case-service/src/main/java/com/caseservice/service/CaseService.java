@@ -1,5 +1,6 @@
 package com.caseservice.service;
 
+import com.caseservice.event.CaseModifiedEvent;
 import com.caseservice.exceptions.*;
 import com.caseservice.mapper.CaseStatusEventMapper;
 import com.govcaseflow.events.cases.CaseStatusChangedEvent;
@@ -7,23 +8,39 @@ import com.caseservice.domain.CaseEntity;
 import com.caseservice.domain.CaseStatus;
 import com.caseservice.domain.CaseStatusHistory;
 import com.caseservice.domain.CaseStatusTransitions;
+import com.caseservice.dto.projection.CaseStatusHistoryEntry;
+import com.caseservice.dto.projection.CaseSummary;
+import com.caseservice.dto.request.CaseSearchFilter;
 import com.caseservice.dto.request.CreateCaseRequest;
+import com.caseservice.dto.response.BulkStatusChangeResponse;
 import com.caseservice.dto.response.CaseEntityDto;
 import com.caseservice.dto.response.CaseResponse;
+import com.caseservice.dto.response.CaseStatusChangeResult;
+import com.caseservice.dto.response.CursorPage;
 import com.caseservice.mapper.CaseMapper;
+import com.caseservice.repository.CaseArchiveRepository;
 import com.caseservice.repository.CaseRepository;
+import com.caseservice.repository.CaseSearchRepository;
 import com.caseservice.repository.CaseStatusHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -40,6 +57,18 @@ public class CaseService {
 
     private final ApplicationEventPublisher eventPublisher;
 
+    private final CaseStatusCounterService counterService;
+
+    private final CaseSearchRepository searchRepository;
+
+    private final CaseArchiveRepository archiveRepository;
+
+    private final CaseCache caseCache;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final int MAX_CLAIM_COUNT = 20;
+
     @Transactional
     public CaseResponse createCase(CreateCaseRequest createCaseRequest, UUID userId) {
 
@@ -56,27 +85,44 @@ public class CaseService {
                 .build();
 
         CaseEntity saved = caseRepository.save(caseEntity);
+        counterService.caseCreated(CaseStatus.SUBMITTED, 1);
 
         return mapper.toResponse(saved);
     }
 
     @Transactional(readOnly = true)
     public Page<CaseEntityDto> getAllForUser(UUID userId, Pageable pageable) {
-        return caseRepository.findAllByCreatedByUserId(userId, pageable)
+        return caseRepository.findSummariesByCreatedByUserId(userId, pageable)
+                .map(mapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<CaseEntityDto> getSliceForUser(UUID userId, Pageable pageable) {
+        return caseRepository.findSummarySliceByCreatedByUserId(userId, pageable)
                 .map(mapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public Page<CaseEntityDto> getAll(Pageable pageable) {
-        return caseRepository.findAll(pageable)
+        return caseRepository.findAllSummaries(pageable)
+                .map(mapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<CaseEntityDto> getAllSlice(Pageable pageable) {
+        return caseRepository.findAllSummarySlice(pageable)
                 .map(mapper::toDto);
     }
 
+    /** Falls back to {@code cases_archive} for cases the archiver has moved out of {@code cases}. */
     @Transactional(readOnly = true)
     public CaseEntityDto getById(UUID id) {
-        CaseEntity caseEntity = caseRepository.findById(id)
-                .orElseThrow(() -> new CaseNotFoundException("Case with id " + id + " not found"));
-        return mapper.toDto(caseEntity);
+        return caseCache.get(id, () -> {
+            CaseSummary summary = caseRepository.findSummaryById(id)
+                    .or(() -> archiveRepository.findSummaryById(id))
+                    .orElseThrow(() -> new CaseNotFoundException("Case with id " + id + " not found"));
+            return mapper.toDto(summary);
+        });
     }
 
     @Transactional
@@ -87,12 +133,15 @@ public class CaseService {
                         new CaseNotFoundException("Case with id " + caseId + " not found")
                 );
         caseRepository.delete(entity);
+        counterService.caseDeleted(entity.getAssignedOfficerId(), entity.getStatus());
+        eventPublisher.publishEvent(new CaseModifiedEvent(caseId));
     }
 
     @Transactional
     public CaseEntityDto assignToMe(UUID caseId, UUID officerId) {
 
-        CaseEntity caseEntity = caseRepository.findById(caseId)
+        // row lock so two officers cannot both pass the "not yet assigned" check
+        CaseEntity caseEntity = caseRepository.findByIdForUpdate(caseId)
                 .orElseThrow(() -> new CaseNotFoundException("Case with id " + caseId + " not found"));
 
         if (caseEntity.getStatus() != CaseStatus.SUBMITTED) {
@@ -107,24 +156,153 @@ public class CaseService {
 
         caseEntity.setAssignedOfficerId(officerId);
         caseEntity.setAssignedAt(Instant.now(clock));
+        counterService.caseAssigned(officerId, caseEntity.getStatus());
 
         log.info("Case {} assigned to officer {}", caseId, officerId);
 
+        eventPublisher.publishEvent(new CaseModifiedEvent(caseId));
+
         return mapper.toDto(caseEntity);
     }
 
+    @Transactional
+    public List<CaseEntityDto> claimNext(UUID officerId, int count) {
+        int limit = Math.max(1, Math.min(count, MAX_CLAIM_COUNT));
+
+        List<CaseEntity> claimed = caseRepository.lockNextUnassignedSubmitted(limit);
+
+        Instant now = Instant.now(clock);
+        CaseStatusCounterService.Deltas deltas = new CaseStatusCounterService.Deltas();
+        for (CaseEntity caseEntity : claimed) {
+            caseEntity.setAssignedOfficerId(officerId);
+            caseEntity.setAssignedAt(now);
+            deltas.assign(officerId, caseEntity.getStatus());
+            eventPublisher.publishEvent(new CaseModifiedEvent(caseEntity.getId()));
+        }
+        counterService.apply(deltas);
+
+        log.info("Officer {} claimed {} case(s)", officerId, claimed.size());
+
+        return claimed.stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public Page<CaseEntityDto> getAssignedToMe(UUID officerId, Pageable pageable) {
-        return caseRepository.findAllByAssignedOfficerId(officerId, pageable)
+        return caseRepository.findSummariesByAssignedOfficerId(officerId, pageable)
+                .map(mapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<CaseEntityDto> getAssignedToMeSlice(UUID officerId, Pageable pageable) {
+        return caseRepository.findSummarySliceByAssignedOfficerId(officerId, pageable)
                 .map(mapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public Page<CaseEntityDto> getSubmittedQueue(Pageable pageable) {
-        return caseRepository.findAllByStatus(CaseStatus.SUBMITTED, pageable)
+        return caseRepository.findSummariesByStatus(CaseStatus.SUBMITTED, pageable)
                 .map(mapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<CaseEntityDto> getSubmittedQueueSlice(Pageable pageable) {
+        return caseRepository.findSummarySliceByStatus(CaseStatus.SUBMITTED, pageable)
+                .map(mapper::toDto);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CaseEntityDto> getSubmittedQueue(String cursor, int size) {
+        CaseCursor after = CaseCursor.decodeOrStart(cursor);
+        int limit = clampPageSize(size);
+        return toCursorPage(
+                caseRepository.findSummariesByStatusAfter(CaseStatus.SUBMITTED, after.createdAt(), after.id(), rowLimit(limit)),
+                limit
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CaseEntityDto> getAssignedToMe(UUID officerId, String cursor, int size) {
+        CaseCursor after = CaseCursor.decodeOrStart(cursor);
+        int limit = clampPageSize(size);
+        return toCursorPage(
+                caseRepository.findSummariesByAssignedOfficerIdAfter(officerId, after.createdAt(), after.id(), rowLimit(limit)),
+                limit
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CaseEntityDto> getAll(String cursor, int size) {
+        CaseCursor after = CaseCursor.decodeOrStart(cursor);
+        int limit = clampPageSize(size);
+        return toCursorPage(
+                caseRepository.findSummariesAfter(after.createdAt(), after.id(), rowLimit(limit)),
+                limit
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CaseEntityDto> search(CaseSearchFilter filter, String cursor, int size) {
+        CaseCursor after = CaseCursor.decodeOrStart(cursor);
+        int limit = clampPageSize(size);
+        return toCursorPage(
+                searchRepository.search(filter, after.createdAt(), after.id(), limit + 1),
+                limit
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CaseStatusHistoryEntry> getHistory(UUID caseId, String cursor, int size) {
+        CaseCursor after = CaseCursor.decodeOrStart(cursor);
+        int limit = clampPageSize(size);
+
+        List<CaseStatusHistoryEntry> rows =
+                historyRepository.findByCaseIdAfter(caseId, after.createdAt(), after.id(), rowLimit(limit));
+
+        // an empty page is the only case where the extra lookups are needed: the case may have been archived
+        if (rows.isEmpty() && !caseRepository.existsById(caseId)) {
+            rows = archiveRepository.findHistoryAfter(caseId, after.createdAt(), after.id(), limit + 1);
+            if (rows.isEmpty() && after == CaseCursor.START && !archiveRepository.existsById(caseId)) {
+                throw new CaseNotFoundException("Case with id " + caseId + " not found");
+            }
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<CaseStatusHistoryEntry> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? CaseCursor.after(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorPage<>(List.copyOf(content), limit, hasNext, nextCursor);
+    }
+
+    /**
+     * Full timelines for several cases in one query, plus one on the archive when some cases
+     * have no live history. Every requested id is present in the result, in request order,
+     * with an empty list when the case has no history.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<CaseStatusHistoryEntry>> getHistories(List<UUID> caseIds) {
+        Map<UUID, List<CaseStatusHistoryEntry>> histories = new LinkedHashMap<>();
+        caseIds.forEach(caseId -> histories.putIfAbsent(caseId, new ArrayList<>()));
+
+        for (CaseStatusHistoryEntry entry : historyRepository.findByCaseIdIn(histories.keySet())) {
+            histories.get(entry.caseId()).add(entry);
+        }
+
+        // archived cases have no live history; a case is never in both tables
+        List<UUID> withoutHistory = histories.entrySet().stream()
+                .filter(e -> e.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!withoutHistory.isEmpty()) {
+            for (CaseStatusHistoryEntry entry : archiveRepository.findHistoriesByCaseIds(withoutHistory)) {
+                histories.get(entry.caseId()).add(entry);
+            }
+        }
+
+        return histories;
+    }
+
     @Transactional
     public void changeStatus(UUID caseId, CaseStatus newStatus, UUID actorUserId, boolean isAdmin) {
 
@@ -133,6 +311,109 @@ public class CaseService {
         CaseEntity caseEntity = caseRepository.findById(caseId)
                 .orElseThrow(() -> new CaseNotFoundException("Case with id " + caseId + " not found"));
 
+        verifyStatusChange(caseEntity, newStatus, actorUserId, isAdmin);
+
+        CaseStatus oldStatus = caseEntity.getStatus();
+
+        // one conditional UPDATE + history INSERT instead of a dirty-checked flush and a separate insert;
+        // a concurrent change makes the WHERE clause miss, no row lock is held between read and write
+        int changed = caseRepository.transitionStatus(
+                caseId,
+                oldStatus.name(),
+                caseEntity.getVersion(),
+                newStatus.name(),
+                Instant.now(clock),
+                actorUserId.toString()
+        );
+        if (changed == 0) {
+            throw new CaseConcurrentModificationException(
+                    "Case with id " + caseId + " was modified concurrently, reload it and retry"
+            );
+        }
+
+        caseEntity.setStatus(newStatus);
+        caseEntity.setVersion(caseEntity.getVersion() + 1);
+        counterService.statusChanged(caseEntity.getAssignedOfficerId(), oldStatus, newStatus);
+
+        eventPublisher.publishEvent(toEvent(caseId, oldStatus, newStatus, actorUserId));
+        eventPublisher.publishEvent(new CaseModifiedEvent(caseId));
+    }
+
+    @Transactional
+    public BulkStatusChangeResponse changeStatusBulk(List<UUID> caseIds, CaseStatus newStatus,
+                                                     UUID actorUserId, boolean isAdmin) {
+
+        List<UUID> distinctIds = caseIds.stream().distinct().toList();
+
+        log.info("Bulk changing {} cases to {} by user {}", distinctIds.size(), newStatus, actorUserId);
+
+        Map<UUID, CaseEntity> casesById = caseRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(CaseEntity::getId, Function.identity()));
+
+        List<CaseStatusChangeResult> results = new ArrayList<>(distinctIds.size());
+        List<CaseStatusHistory> histories = new ArrayList<>(distinctIds.size());
+        List<CaseStatusChangedEvent> events = new ArrayList<>(distinctIds.size());
+        CaseStatusCounterService.Deltas deltas = new CaseStatusCounterService.Deltas();
+
+        for (UUID caseId : distinctIds) {
+            CaseEntity caseEntity = casesById.get(caseId);
+
+            if (caseEntity == null) {
+                results.add(CaseStatusChangeResult.rejected(caseId, CaseStatusChangeResult.Outcome.NOT_FOUND,
+                        null, "Case with id " + caseId + " not found"));
+                continue;
+            }
+
+            CaseStatus oldStatus = caseEntity.getStatus();
+
+            try {
+                verifyStatusChange(caseEntity, newStatus, actorUserId, isAdmin);
+            } catch (CaseAccessDeniedException ex) {
+                results.add(CaseStatusChangeResult.rejected(caseId, CaseStatusChangeResult.Outcome.ACCESS_DENIED,
+                        oldStatus, ex.getMessage()));
+                continue;
+            } catch (InvalidCaseStatusTransitionException ex) {
+                results.add(CaseStatusChangeResult.rejected(caseId, CaseStatusChangeResult.Outcome.INVALID_TRANSITION,
+                        oldStatus, ex.getMessage()));
+                continue;
+            }
+
+            histories.add(toHistory(caseEntity, newStatus, actorUserId));
+            caseEntity.setStatus(newStatus);
+            deltas.move(caseEntity.getAssignedOfficerId(), oldStatus, newStatus);
+            events.add(toEvent(caseId, oldStatus, newStatus, actorUserId));
+            eventPublisher.publishEvent(new CaseModifiedEvent(caseId));
+            results.add(CaseStatusChangeResult.changed(caseId, oldStatus, newStatus));
+        }
+
+        // history inserts and case updates are flushed together using hibernate.jdbc.batch_size
+        historyRepository.saveAll(histories);
+        counterService.apply(deltas);
+        events.forEach(eventPublisher::publishEvent);
+
+        log.info("Bulk status change to {} finished: {}/{} cases changed", newStatus, events.size(), distinctIds.size());
+
+        return new BulkStatusChangeResponse(distinctIds.size(), events.size(), results);
+    }
+
+    // one extra row is fetched to learn whether another page exists without a COUNT query
+    private CursorPage<CaseEntityDto> toCursorPage(List<CaseSummary> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<CaseSummary> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CaseCursor.after(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorPage<>(content.stream().map(mapper::toDto).toList(), size, hasNext, nextCursor);
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    private static Pageable rowLimit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    private void verifyStatusChange(CaseEntity caseEntity, CaseStatus newStatus, UUID actorUserId, boolean isAdmin) {
         if (!isAdmin) {
             UUID assignedOfficerId = caseEntity.getAssignedOfficerId();
             if (assignedOfficerId == null || !assignedOfficerId.equals(actorUserId)) {
@@ -147,28 +428,26 @@ public class CaseService {
                     "Invalid status transition from " + oldStatus + " to " + newStatus
             );
         }
+    }
 
-        CaseStatusHistory history = CaseStatusHistory.builder()
-                .caseId(caseId)
-                .oldStatus(oldStatus)
+    private CaseStatusHistory toHistory(CaseEntity caseEntity, CaseStatus newStatus, UUID actorUserId) {
+        return CaseStatusHistory.builder()
+                .caseId(caseEntity.getId())
+                .oldStatus(caseEntity.getStatus())
                 .newStatus(newStatus)
                 .changedAt(Instant.now(clock))
                 .changedBy(actorUserId.toString())
                 .build();
+    }
 
-        historyRepository.save(history);
-
-        caseEntity.setStatus(newStatus);
-
-        var event = new CaseStatusChangedEvent(
+    private CaseStatusChangedEvent toEvent(UUID caseId, CaseStatus oldStatus, CaseStatus newStatus, UUID actorUserId) {
+        return new CaseStatusChangedEvent(
                 caseId,
                 CaseStatusEventMapper.toEvent(oldStatus),
                 CaseStatusEventMapper.toEvent(newStatus),
                 Instant.now(clock),
                 actorUserId.toString()
         );
-
-        eventPublisher.publishEvent(event);
     }
 
 }
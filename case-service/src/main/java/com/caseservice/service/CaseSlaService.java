@@ -0,0 +1,210 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.event.CaseEventPublisher;
+import com.caseservice.mapper.CaseStatusEventMapper;
+import com.caseservice.repository.CaseSlaRepository;
+import com.govcaseflow.events.cases.CaseSlaBreachedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Escalates cases that stay in IN_REVIEW or DECISION_PENDING past their SLA.
+ * <p>
+ * Upcoming deadlines live in a {@link HierarchicalTimingWheel}, so the database is never scanned for
+ * due cases: the wheel is loaded on startup and kept current from the {@code case.status.changed}
+ * events the outbox relays, which every replica consumes from its own queue. A periodic reconcile
+ * reloads the open cases, so a replica that missed events while disconnected catches up.
+ * <p>
+ * When a deadline fires, the escalation is recorded in {@code case_sla_escalations} only if the case
+ * is still in that status, and a {@link CaseSlaBreachedEvent} is written to the outbox in the same
+ * transaction. Every replica tracks every deadline; the ledger makes exactly one of them escalate.
+ */
+@Slf4j
+@Service
+public class CaseSlaService {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int ESCALATION_CHUNK = 200;
+
+    private final CaseSlaRepository slaRepository;
+    private final CaseEventPublisher caseEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Clock clock;
+    private final Map<CaseStatus, Duration> deadlines = new EnumMap<>(CaseStatus.class);
+    private final Duration retryDelay;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final HierarchicalTimingWheel<UUID, Deadline> wheel;
+
+    private final Counter escalatedCounter;
+
+    public CaseSlaService(
+            CaseSlaRepository slaRepository,
+            CaseEventPublisher caseEventPublisher,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${case.sla.in-review:P5D}") Duration inReview,
+            @Value("${case.sla.decision-pending:P3D}") Duration decisionPending,
+            @Value("${case.sla.tick-ms:1000}") long tickMillis,
+            @Value("${case.sla.retry-delay:PT30S}") Duration retryDelay
+    ) {
+        this.slaRepository = slaRepository;
+        this.caseEventPublisher = caseEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clock = clock;
+        this.deadlines.put(CaseStatus.IN_REVIEW, inReview);
+        this.deadlines.put(CaseStatus.DECISION_PENDING, decisionPending);
+        this.retryDelay = retryDelay;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, clock.millis());
+
+        this.escalatedCounter = Counter.builder("case.sla.escalated")
+                .description("Cases escalated for staying in a status past their SLA")
+                .register(meterRegistry);
+        Gauge.builder("case.sla.tracked", this, CaseSlaService::trackedDeadlines)
+                .description("SLA deadlines held in the timing wheel")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDeadlines() {
+        long before = trackedDeadlines();
+        readOnlyTransaction.executeWithoutResult(status ->
+                slaRepository.forEachOpen(deadlines.keySet(), open -> track(open.caseId(), open.status(), open.enteredAt())));
+        log.info("Loaded SLA deadlines: {} tracked ({} before load)", trackedDeadlines(), before);
+    }
+
+    @Scheduled(cron = "${case.sla.reconcile.cron:0 */15 * * * *}")
+    public void reconcile() {
+        loadDeadlines();
+    }
+
+    /**
+     * Re-reads one case after its status changed. The escalation ledger matches stints on the entered_at
+     * stored in {@code cases}, so it is read back rather than taken from the event's changedAt.
+     */
+    public void refresh(UUID caseId) {
+        slaRepository.findOpen(caseId).ifPresentOrElse(
+                open -> track(open.caseId(), open.status(), open.enteredAt()),
+                () -> untrack(caseId)
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${case.sla.tick-ms:1000}")
+    public void escalateDue() {
+        List<Deadline> expired;
+        lock.lock();
+        try {
+            expired = wheel.advanceTo(clock.millis());
+        } finally {
+            lock.unlock();
+        }
+
+        for (int from = 0; from < expired.size(); from += ESCALATION_CHUNK) {
+            List<Deadline> chunk = expired.subList(from, Math.min(from + ESCALATION_CHUNK, expired.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::escalate));
+            } catch (RuntimeException ex) {
+                log.warn("Could not escalate {} SLA deadlines, retrying in {}: {}", chunk.size(), retryDelay, ex.getMessage());
+                Instant retryAt = Instant.now(clock).plus(retryDelay);
+                chunk.forEach(deadline -> reschedule(deadline, retryAt));
+            }
+        }
+    }
+
+    long trackedDeadlines() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void escalate(Deadline deadline) {
+        Instant now = Instant.now(clock);
+        slaRepository.escalate(deadline.caseId(), deadline.status(), deadline.enteredAt(), deadline.dueAt(), now)
+                .ifPresent(escalated -> {
+                    caseEventPublisher.publishSlaBreached(new CaseSlaBreachedEvent(
+                            deadline.caseId(),
+                            CaseStatusEventMapper.toEvent(deadline.status()),
+                            escalated.assignedOfficerId(),
+                            deadline.enteredAt(),
+                            deadline.dueAt(),
+                            now
+                    ));
+                    escalatedCounter.increment();
+                    log.info("Case {} breached its {} SLA (due {})",
+                            deadline.caseId(), deadline.status(), deadline.dueAt());
+                });
+    }
+
+    /**
+     * Tracks the deadline of a case that entered {@code status} at {@code enteredAt}, or stops tracking
+     * it if the status has no SLA. An older status never replaces a newer one, so a startup load racing
+     * with live status changes cannot bring back a deadline the case has already moved past.
+     */
+    private void track(UUID caseId, CaseStatus status, Instant enteredAt) {
+        Duration sla = deadlines.get(status);
+
+        lock.lock();
+        try {
+            Deadline current = wheel.get(caseId);
+            if (current != null && current.enteredAt().isAfter(enteredAt)) {
+                return;
+            }
+            if (sla == null) {
+                wheel.cancel(caseId);
+                return;
+            }
+            Deadline deadline = new Deadline(caseId, status, enteredAt, enteredAt.plus(sla));
+            wheel.schedule(caseId, deadline, deadline.dueAt().toEpochMilli());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void untrack(UUID caseId) {
+        lock.lock();
+        try {
+            wheel.cancel(caseId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reschedule(Deadline deadline, Instant at) {
+        lock.lock();
+        try {
+            if (wheel.get(deadline.caseId()) == null) {
+                wheel.schedule(deadline.caseId(), deadline, at.toEpochMilli());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    record Deadline(UUID caseId, CaseStatus status, Instant enteredAt, Instant dueAt) {}
+}
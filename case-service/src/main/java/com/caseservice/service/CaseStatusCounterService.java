@@ -0,0 +1,257 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.response.CaseStatusDashboardResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-status case counts kept in {@code case_status_counters}, overall and per assigned officer.
+ * <p>
+ * Every logical counter is split over {@code stripes} rows and each write picks one at random,
+ * so concurrent transactions rarely wait on the same row. Reads sum the stripes, which costs
+ * the same no matter how many cases exist.
+ */
+@Slf4j
+@Service
+public class CaseStatusCounterService {
+
+    /** Officer id of the overall (all cases) counters. */
+    static final UUID OVERALL = new UUID(0L, 0L);
+
+    private static final String UPSERT_DELTA = """
+            INSERT INTO case_status_counters (status, officer_id, stripe, count)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (status, officer_id, stripe) DO UPDATE
+            SET count = case_status_counters.count + EXCLUDED.count
+            """;
+
+    private static final String SELECT_TOTALS = """
+            SELECT status, officer_id, SUM(count) AS total
+            FROM case_status_counters
+            GROUP BY status, officer_id
+            """;
+
+    private static final String SELECT_OFFICER_TOTALS = """
+            SELECT status, SUM(count) AS total
+            FROM case_status_counters
+            WHERE officer_id = ?
+            GROUP BY status
+            """;
+
+    // archived cases are still counted, as CLOSED
+    private static final String SELECT_ACTUAL_TOTALS = """
+            WITH all_cases AS (
+                SELECT status, assigned_officer_id FROM cases
+                UNION ALL
+                SELECT status, assigned_officer_id FROM cases_archive
+            )
+            SELECT status, CAST('00000000-0000-0000-0000-000000000000' AS uuid) AS officer_id, COUNT(*) AS total
+            FROM all_cases
+            GROUP BY status
+            UNION ALL
+            SELECT status, assigned_officer_id, COUNT(*)
+            FROM all_cases
+            WHERE assigned_officer_id IS NOT NULL
+            GROUP BY status, assigned_officer_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int stripes;
+
+    public CaseStatusCounterService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${case.counters.stripes:8}") int stripes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stripes = stripes;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void caseCreated(CaseStatus status, int count) {
+        apply(new Deltas().add(status, null, count));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChanged(UUID officerId, CaseStatus oldStatus, CaseStatus newStatus) {
+        apply(new Deltas().move(officerId, oldStatus, newStatus));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void caseAssigned(UUID officerId, CaseStatus status) {
+        apply(new Deltas().assign(officerId, status));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void caseDeleted(UUID officerId, CaseStatus status) {
+        apply(new Deltas().add(status, officerId, -1));
+    }
+
+    /**
+     * Writes all non-zero deltas in one JDBC batch, in the caller's transaction.
+     * Rows are written in a fixed order so two transactions cannot lock them in opposite order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Deltas deltas) {
+        List<Map.Entry<CounterKey, Long>> rows = deltas.values.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(CounterKey.ORDER))
+                .toList();
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+
+        jdbcTemplate.batchUpdate(UPSERT_DELTA, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey().status().name());
+            ps.setObject(2, row.getKey().officerId());
+            ps.setInt(3, stripe);
+            ps.setLong(4, row.getValue());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public CaseStatusDashboardResponse dashboard() {
+        Map<CaseStatus, Long> overall = emptyCounts();
+        Map<UUID, Map<CaseStatus, Long>> byOfficer = new TreeMap<>();
+
+        jdbcTemplate.query(SELECT_TOTALS, rs -> {
+            UUID officerId = rs.getObject("officer_id", UUID.class);
+            CaseStatus status = CaseStatus.valueOf(rs.getString("status"));
+            long total = rs.getLong("total");
+
+            if (OVERALL.equals(officerId)) {
+                overall.put(status, total);
+            } else if (total != 0) {
+                byOfficer.computeIfAbsent(officerId, id -> emptyCounts()).put(status, total);
+            }
+        });
+
+        return new CaseStatusDashboardResponse(overall, byOfficer);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<CaseStatus, Long> countsForOfficer(UUID officerId) {
+        Map<CaseStatus, Long> counts = emptyCounts();
+        jdbcTemplate.query(SELECT_OFFICER_TOTALS,
+                rs -> {
+                    counts.put(CaseStatus.valueOf(rs.getString("status")), rs.getLong("total"));
+                },
+                officerId);
+        return counts;
+    }
+
+    /**
+     * Rebuilds the counters from {@code cases} and {@code cases_archive}, correcting drift
+     * from writes that bypass the service (manual SQL, restored backups).
+     * <p>
+     * The EXCLUSIVE lock waits for every transaction that already touched the counters to
+     * commit and blocks new counter writes until this one commits. The recount that follows
+     * therefore sees every case change whose counter delta it replaces.
+     */
+    @Scheduled(cron = "${case.counters.reconcile.cron:0 30 * * * *}")
+    @Transactional
+    public void reconcile() {
+        jdbcTemplate.execute("LOCK TABLE case_status_counters IN EXCLUSIVE MODE");
+
+        Map<CounterKey, Long> recorded = totals(SELECT_TOTALS);
+        Map<CounterKey, Long> actual = totals(SELECT_ACTUAL_TOTALS);
+
+        long drifted = actual.entrySet().stream()
+                .filter(e -> !Objects.equals(recorded.getOrDefault(e.getKey(), 0L), e.getValue()))
+                .count()
+                + recorded.entrySet().stream()
+                .filter(e -> e.getValue() != 0 && !actual.containsKey(e.getKey()))
+                .count();
+
+        if (drifted == 0) {
+            log.debug("Case status counters are in sync ({} counters)", actual.size());
+            return;
+        }
+
+        jdbcTemplate.update("DELETE FROM case_status_counters");
+
+        List<Map.Entry<CounterKey, Long>> rows = new ArrayList<>(actual.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_DELTA, rows, 500, (ps, row) -> {
+            ps.setString(1, row.getKey().status().name());
+            ps.setObject(2, row.getKey().officerId());
+            ps.setInt(3, 0);
+            ps.setLong(4, row.getValue());
+        });
+
+        log.warn("Reconciled case status counters: {} of {} counters had drifted", drifted, actual.size());
+    }
+
+    private Map<CounterKey, Long> totals(String sql) {
+        Map<CounterKey, Long> totals = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            totals.put(
+                    new CounterKey(CaseStatus.valueOf(rs.getString("status")), rs.getObject("officer_id", UUID.class)),
+                    rs.getLong("total")
+            );
+        });
+        return totals;
+    }
+
+    private static Map<CaseStatus, Long> emptyCounts() {
+        Map<CaseStatus, Long> counts = new EnumMap<>(CaseStatus.class);
+        for (CaseStatus status : CaseStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    /**
+     * Counter changes collected over one transaction, so a bulk operation writes
+     * each touched counter once.
+     */
+    public static class Deltas {
+
+        private final Map<CounterKey, Long> values = new LinkedHashMap<>();
+
+        /** Adds to the overall counter and, when {@code officerId} is set, to that officer's counter. */
+        public Deltas add(CaseStatus status, UUID officerId, long delta) {
+            values.merge(new CounterKey(status, OVERALL), delta, Long::sum);
+            if (officerId != null) {
+                values.merge(new CounterKey(status, officerId), delta, Long::sum);
+            }
+            return this;
+        }
+
+        public Deltas move(UUID officerId, CaseStatus oldStatus, CaseStatus newStatus) {
+            return add(oldStatus, officerId, -1).add(newStatus, officerId, 1);
+        }
+
+        /** An assignment does not change the overall counts, only the officer's. */
+        public Deltas assign(UUID officerId, CaseStatus status) {
+            values.merge(new CounterKey(status, officerId), 1L, Long::sum);
+            return this;
+        }
+    }
+
+    record CounterKey(CaseStatus status, UUID officerId) {
+
+        static final Comparator<CounterKey> ORDER = Comparator
+                .comparing(CounterKey::status)
+                .thenComparing(CounterKey::officerId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.caseservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps the monthly partitions of {@code case_status_history} created ahead of time.
+ * The table has no default partition, so a history insert for a month without a partition fails.
+ * Liquibase also creates them on every startup; this job covers instances that run for months.
+ */
+@Slf4j
+@Service
+public class CaseStatusHistoryPartitionService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+
+    public CaseStatusHistoryPartitionService(
+            JdbcTemplate jdbcTemplate,
+            Clock clock,
+            @Value("${case.history.partitions.months-ahead:3}") int monthsAhead
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(cron = "${case.history.partitions.cron:0 0 1 * * *}")
+    public void createUpcomingPartitions() {
+        LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT ensure_case_status_history_partitions(?, ?)",
+                Integer.class,
+                today,
+                today.plusMonths(monthsAhead)
+        );
+
+        if (created != null && created > 0) {
+            log.info("Created {} case_status_history partitions up to {}", created, today.plusMonths(monthsAhead));
+        }
+    }
+}
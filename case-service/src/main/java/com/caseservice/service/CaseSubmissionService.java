@@ -0,0 +1,202 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.domain.CaseSubmissionStatus;
+import com.caseservice.dto.projection.CaseSubmissionRecord;
+import com.caseservice.dto.request.CreateCaseRequest;
+import com.caseservice.dto.response.CaseSubmissionResponse;
+import com.caseservice.messaging.CaseSubmissionCommand;
+import com.caseservice.messaging.CaseSubmissionPublisher;
+import com.caseservice.repository.CaseRepository;
+import com.caseservice.repository.CaseSubmissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Asynchronous case creation. {@link #submit} only validates and enqueues, so request latency does
+ * not depend on database load; workers insert the queued submissions in batches and record each
+ * outcome, which clients poll through {@link #getStatus}.
+ */
+@Slf4j
+@Service
+public class CaseSubmissionService {
+
+    static final String DUPLICATE_REASON = "Case with the same case number already exists";
+
+    // ON CONFLICT covers a case created through the synchronous API between the IN check and the insert
+    private static final String INSERT_CASE = """
+            INSERT INTO cases (id, case_number, status, applicant_pesel, created_at, created_by_user_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (case_number) DO NOTHING
+            """;
+
+    private final CaseRepository caseRepository;
+    private final CaseSubmissionRepository submissionRepository;
+    private final CaseStatusCounterService counterService;
+    private final CaseSubmissionPublisher publisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Duration retention;
+
+    public CaseSubmissionService(
+            CaseRepository caseRepository,
+            CaseSubmissionRepository submissionRepository,
+            CaseStatusCounterService counterService,
+            CaseSubmissionPublisher publisher,
+            JdbcTemplate jdbcTemplate,
+            Clock clock,
+            @Value("${case.submission.retention:P7D}") Duration retention
+    ) {
+        this.caseRepository = caseRepository;
+        this.submissionRepository = submissionRepository;
+        this.counterService = counterService;
+        this.publisher = publisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.retention = retention;
+    }
+
+    public CaseSubmissionResponse submit(CreateCaseRequest request, UUID userId) {
+        UUID submissionId = UUID.randomUUID();
+
+        publisher.publish(new CaseSubmissionCommand(
+                submissionId,
+                request.caseNumber(),
+                request.applicantPesel(),
+                userId,
+                Instant.now(clock)
+        ));
+
+        return new CaseSubmissionResponse(submissionId, CaseSubmissionStatus.PENDING, null, null, statusUrl(submissionId));
+    }
+
+    /**
+     * Unknown ids and ids submitted by another user read as PENDING, which tells the caller nothing
+     * about other users' submissions.
+     */
+    @Transactional(readOnly = true)
+    public CaseSubmissionResponse getStatus(UUID submissionId, UUID userId) {
+        return submissionRepository.findByIdAndUserId(submissionId, userId)
+                .map(record -> new CaseSubmissionResponse(
+                        submissionId, record.status(), record.caseId(), record.reason(), statusUrl(submissionId)))
+                .orElseGet(() -> new CaseSubmissionResponse(
+                        submissionId, CaseSubmissionStatus.PENDING, null, null, statusUrl(submissionId)));
+    }
+
+    /**
+     * Inserts one batch of submissions in a single transaction. Cases and their submission results
+     * commit together, so a redelivered batch skips everything that was already processed.
+     */
+    @Transactional
+    public void processBatch(List<CaseSubmissionCommand> commands) {
+        Map<UUID, CaseSubmissionCommand> byId = new LinkedHashMap<>();
+        for (CaseSubmissionCommand command : commands) {
+            byId.putIfAbsent(command.submissionId(), command);
+        }
+        byId.keySet().removeAll(submissionRepository.findRecordedIds(byId.keySet()));
+
+        if (byId.isEmpty()) {
+            return;
+        }
+
+        Set<String> taken = new HashSet<>(caseRepository.findExistingCaseNumbers(
+                byId.values().stream().map(CaseSubmissionCommand::caseNumber).toList()
+        ));
+
+        Instant processedAt = Instant.now(clock);
+        List<CaseSubmissionRecord> results = new ArrayList<>(byId.size());
+        List<NewCase> toInsert = new ArrayList<>(byId.size());
+
+        for (CaseSubmissionCommand command : byId.values()) {
+            // add() also catches duplicates within the same batch
+            if (taken.add(command.caseNumber())) {
+                toInsert.add(new NewCase(command, UUID.randomUUID()));
+            } else {
+                results.add(rejected(command, processedAt));
+            }
+        }
+
+        // created_at is the submission time, not the time a worker got to it
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_CASE, toInsert, byId.size(), (ps, row) -> {
+            ps.setObject(1, row.id());
+            ps.setString(2, row.command().caseNumber());
+            ps.setString(3, CaseStatus.SUBMITTED.name());
+            ps.setString(4, row.command().applicantPesel());
+            ps.setTimestamp(5, Timestamp.from(row.command().submittedAt()));
+            ps.setObject(6, row.command().userId());
+        });
+
+        int index = 0;
+        int created = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                NewCase row = toInsert.get(index++);
+                if (count == 0) {
+                    results.add(rejected(row.command(), processedAt));
+                } else {
+                    results.add(new CaseSubmissionRecord(
+                            row.command().submissionId(),
+                            row.command().caseNumber(),
+                            CaseSubmissionStatus.CREATED,
+                            row.id(),
+                            null,
+                            row.command().userId(),
+                            row.command().submittedAt(),
+                            processedAt
+                    ));
+                    created++;
+                }
+            }
+        }
+        if (created > 0) {
+            counterService.caseCreated(CaseStatus.SUBMITTED, created);
+        }
+
+        submissionRepository.saveAll(results);
+        log.debug("Processed {} case submissions: {} created, {} rejected", results.size(), created, results.size() - created);
+    }
+
+    @Scheduled(cron = "${case.submission.cleanup.cron:0 15 * * * *}")
+    @Transactional
+    public void purgeProcessed() {
+        int deleted = submissionRepository.deleteProcessedBefore(Instant.now(clock).minus(retention));
+        if (deleted > 0) {
+            log.info("Purged {} case submission results older than {}", deleted, retention);
+        }
+    }
+
+    private static CaseSubmissionRecord rejected(CaseSubmissionCommand command, Instant processedAt) {
+        return new CaseSubmissionRecord(
+                command.submissionId(),
+                command.caseNumber(),
+                CaseSubmissionStatus.REJECTED,
+                null,
+                DUPLICATE_REASON,
+                command.userId(),
+                command.submittedAt(),
+                processedAt
+        );
+    }
+
+    private static String statusUrl(UUID submissionId) {
+        return "/api/cases/submissions/" + submissionId;
+    }
+
+    private record NewCase(CaseSubmissionCommand command, UUID id) {}
+}
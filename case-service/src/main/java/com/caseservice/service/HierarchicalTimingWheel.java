@@ -0,0 +1,159 @@
+package com.caseservice.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel: {@code wheelSize} slots per level, each level's slot spanning
+ * a whole rotation of the level below. Scheduling and cancelling are O(1) whatever the number
+ * of timers; advancing costs one slot per elapsed tick plus the timers that fall due or move
+ * down a level.
+ * <p>
+ * A timer at level {@code i} sits in the slot of its deadline at that level's granularity and
+ * is moved down when the wheel reaches the start of that slot, so it is never fired early and
+ * at most one tick late. Levels are added as far-off deadlines need them.
+ * <p>
+ * Not thread-safe; {@link CaseSlaService} guards it with its own lock.
+ */
+final class HierarchicalTimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Set<Timer<K, V>>[]> levels = new ArrayList<>();
+    private final Map<K, Timer<K, V>> timers = new HashMap<>();
+    private final List<Timer<K, V>> due = new ArrayList<>();
+    private long currentTick;
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /** Schedules {@code value} to fire at {@code deadlineMillis}, replacing any timer for {@code key}. */
+    void schedule(K key, V value, long deadlineMillis) {
+        cancel(key);
+
+        // rounded up, so a timer never fires before its deadline
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        Timer<K, V> timer = new Timer<>(key, value, deadlineTick);
+        timers.put(key, timer);
+        place(timer);
+    }
+
+    boolean cancel(K key) {
+        Timer<K, V> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        if (timer.slot != null) {
+            timer.slot.remove(timer);
+        } else {
+            due.remove(timer);
+        }
+        return true;
+    }
+
+    V get(K key) {
+        Timer<K, V> timer = timers.get(key);
+        return timer == null ? null : timer.value;
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    /** Moves the wheel to {@code nowMillis} and returns the values of every timer that fell due. */
+    List<V> advanceTo(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // higher levels first: their timers may land in this tick's level-0 slot
+            long span = 1;
+            for (int level = 0; level < levels.size(); level++) {
+                if (level > 0 && currentTick % span != 0) {
+                    break;
+                }
+                Set<Timer<K, V>> slot = levels.get(level)[(int) Math.floorMod(currentTick / span, wheelSize)];
+                span *= wheelSize;
+                if (level == 0 || slot.isEmpty()) {
+                    continue;
+                }
+                List<Timer<K, V>> cascading = new ArrayList<>(slot);
+                slot.clear();
+                cascading.forEach(this::place);
+            }
+
+            if (!levels.isEmpty()) {
+                Set<Timer<K, V>> slot = levels.get(0)[(int) Math.floorMod(currentTick, wheelSize)];
+                for (Timer<K, V> timer : slot) {
+                    timer.slot = null;
+                    due.add(timer);
+                }
+                slot.clear();
+            }
+        }
+
+        List<V> expired = new ArrayList<>(due.size());
+        for (Timer<K, V> timer : due) {
+            timers.remove(timer.key);
+            expired.add(timer.value);
+        }
+        due.clear();
+        return expired;
+    }
+
+    private void place(Timer<K, V> timer) {
+        if (timer.deadlineTick <= currentTick) {
+            timer.slot = null;
+            due.add(timer);
+            return;
+        }
+
+        long span = 1;
+        for (int level = 0; ; level++) {
+            if (timer.deadlineTick / span - currentTick / span < wheelSize) {
+                Set<Timer<K, V>> slot = level(level)[(int) Math.floorMod(timer.deadlineTick / span, wheelSize)];
+                slot.add(timer);
+                timer.slot = slot;
+                return;
+            }
+            span = Math.multiplyExact(span, wheelSize);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Timer<K, V>>[] level(int level) {
+        while (levels.size() <= level) {
+            Set<Timer<K, V>>[] slots = new Set[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                slots[i] = new HashSet<>();
+            }
+            levels.add(slots);
+        }
+        return levels.get(level);
+    }
+
+    private static final class Timer<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long deadlineTick;
+        private Set<Timer<K, V>> slot;
+
+        private Timer(K key, V value, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.caseservice.service;
+
+import com.caseservice.exceptions.IdempotencyKeyConflictException;
+import com.caseservice.exceptions.InvalidIdempotencyKeyException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Replays the stored response of a request retried with the same {@code Idempotency-Key},
+ * so a retry never reaches the case tables a second time.
+ * <p>
+ * Keys are scoped per user and operation and kept in a bounded in-memory store for {@code ttl}.
+ * Only successful responses are stored; a failed request can be retried with the same key.
+ * The store is local to the instance, like the case read cache.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentMap<String, Entry> entries;
+    private final Duration inFlightWait;
+
+    public IdempotencyService(
+            @Value("${case.idempotency.max-entries:100000}") long maxEntries,
+            @Value("${case.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${case.idempotency.in-flight-wait:PT5S}") Duration inFlightWait
+    ) {
+        Cache<String, Entry> cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+        this.entries = cache.asMap();
+        this.inFlightWait = inFlightWait;
+    }
+
+    /**
+     * Runs {@code action} once per (user, operation, key). A retry with the same request gets the
+     * first response back with {@value #REPLAYED_HEADER}: true; a retry that arrives while the first
+     * request is still running waits up to {@code in-flight-wait} for it.
+     *
+     * @param request what the key was first used for; reusing the key for a different request is a conflict
+     */
+    public <T> ResponseEntity<T> execute(
+            String key,
+            UUID userId,
+            String operation,
+            Object request,
+            Supplier<ResponseEntity<T>> action
+    ) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String scopedKey = userId + ":" + operation + ":" + key;
+
+        while (true) {
+            Entry mine = new Entry(request, new CompletableFuture<>());
+            Entry existing = entries.putIfAbsent(scopedKey, mine);
+
+            if (existing == null) {
+                return runFirst(scopedKey, mine, action);
+            }
+
+            if (!existing.request().equals(request)) {
+                throw new IdempotencyKeyConflictException(
+                        HEADER + " was already used for a different request");
+            }
+
+            ResponseEntity<?> stored = awaitFirst(existing);
+            if (stored != null) {
+                log.debug("Replaying {} response for idempotency key {}", operation, key);
+                return replay(stored);
+            }
+            // the first attempt failed and released the key, so this request runs it again
+        }
+    }
+
+    private <T> ResponseEntity<T> runFirst(String scopedKey, Entry entry, Supplier<ResponseEntity<T>> action) {
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error ex) {
+            entries.remove(scopedKey, entry);
+            entry.response().complete(null);
+            throw ex;
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            entries.remove(scopedKey, entry);
+            entry.response().complete(null);
+            return response;
+        }
+
+        entry.response().complete(response);
+        return response;
+    }
+
+    private ResponseEntity<?> awaitFirst(Entry entry) {
+        try {
+            return entry.response().get(inFlightWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotencyKeyConflictException(
+                    "A request with this " + HEADER + " is still being processed, retry later");
+        } catch (ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException(
+                    "A request with this " + HEADER + " is still being processed, retry later");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> replay(ResponseEntity<?> stored) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(stored.getHeaders());
+        headers.set(REPLAYED_HEADER, "true");
+        return new ResponseEntity<>((T) stored.getBody(), headers, stored.getStatusCode());
+    }
+
+    /** {@code response} completes with the stored response, or with null if the first attempt failed. */
+    private record Entry(Object request, CompletableFuture<ResponseEntity<?>> response) {}
+}
@@ -1,15 +1,25 @@
 package com.caseservice.controller;
 
 import com.caseservice.domain.CaseStatus;
+import com.caseservice.domain.CaseSubmissionStatus;
+import com.caseservice.dto.request.CaseSearchFilter;
 import com.caseservice.dto.request.CreateCaseRequest;
+import com.caseservice.dto.response.BulkStatusChangeResponse;
 import com.caseservice.dto.response.CaseEntityDto;
 import com.caseservice.dto.response.CaseResponse;
+import com.caseservice.dto.response.CaseStatusChangeResult;
+import com.caseservice.dto.response.CaseSubmissionResponse;
+import com.caseservice.dto.response.CursorPage;
 import com.caseservice.exceptions.CaseNotFoundException;
+import com.caseservice.exceptions.CaseSubmissionUnavailableException;
 import com.caseservice.security.CurrentUser;
 import com.caseservice.security.CurrentUserProvider;
 import com.caseservice.security.JwtService;
 import com.caseservice.security.UserPrincipal;
 import com.caseservice.service.CaseService;
+import com.caseservice.service.CaseStatusCounterService;
+import com.caseservice.service.CaseSubmissionService;
+import com.caseservice.service.IdempotencyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,9 +27,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -29,6 +41,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 import java.time.Instant;
@@ -45,12 +58,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         CaseUserController.class
 })
 @AutoConfigureMockMvc(addFilters = false)
+@Import(IdempotencyService.class)
 @ActiveProfiles("test")
 class CaseControllerTest {
 
     @MockBean
     CaseService caseService;
 
+    @MockBean
+    CaseStatusCounterService counterService;
+
+    @MockBean
+    CaseSubmissionService submissionService;
+
     @MockBean
     private JwtService jwtService;
 
@@ -115,6 +135,7 @@ class CaseControllerTest {
 
         // then
         mockMvc.perform(get("/api/cases")
+                        .param("withTotal", "true")
                         .accept(MediaType.APPLICATION_JSON)
                         .with(authentication(auth)))
                 .andExpect(status().isOk())
@@ -152,6 +173,7 @@ class CaseControllerTest {
                 .thenReturn(emptyPage);
 
         mockMvc.perform(get("/api/cases")
+                        .param("withTotal", "true")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
@@ -159,6 +181,33 @@ class CaseControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(0));
     }
 
+    @Test
+    void shouldReturnMyCasesAsSliceWithoutTotalsByDefault() throws Exception {
+        UUID userId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(
+                        userId,
+                        "user@test.com",
+                        Set.of("USER")
+                ));
+
+        var slice = new SliceImpl<>(cases, PageRequest.of(0, 2), true);
+
+        when(caseService.getSliceForUser(eq(userId), any(Pageable.class)))
+                .thenReturn(slice);
+
+        mockMvc.perform(get("/api/cases?page=0&size=2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        verify(caseService, never()).getAllForUser(any(), any());
+    }
+
     @Test
     void shouldReturn404WhenCaseNotFound() throws Exception {
         // given
@@ -210,6 +259,65 @@ class CaseControllerTest {
                 .andExpect(jsonPath("$.status").value("SUBMITTED"));
     }
 
+    @Test
+    void shouldReplayCreateCaseRetriedWithSameIdempotencyKey() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID caseId = UUID.randomUUID();
+        CreateCaseRequest request = new CreateCaseRequest("CASE-2026-005", "90010112377");
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(userId, "test@test.com", Set.of("USER")));
+        when(caseService.createCase(eq(request), eq(userId)))
+                .thenReturn(new CaseResponse(caseId, "CASE-2026-005", CaseStatus.SUBMITTED, "90010112377", Instant.now()));
+
+        mockMvc.perform(post("/api/cases")
+                        .header(IdempotencyService.HEADER, "retry-create-1")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyService.REPLAYED_HEADER));
+
+        mockMvc.perform(post("/api/cases")
+                        .header(IdempotencyService.HEADER, "retry-create-1")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyService.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.id").value(caseId.toString()));
+
+        verify(caseService, times(1)).createCase(request, userId);
+    }
+
+    @Test
+    void shouldReturn409WhenIdempotencyKeyIsReusedForDifferentRequest() throws Exception {
+        UUID userId = UUID.randomUUID();
+        CreateCaseRequest first = new CreateCaseRequest("CASE-2026-006", "90010112377");
+        CreateCaseRequest second = new CreateCaseRequest("CASE-2026-007", "90010112377");
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(userId, "test@test.com", Set.of("USER")));
+        when(caseService.createCase(eq(first), eq(userId)))
+                .thenReturn(new CaseResponse(UUID.randomUUID(), "CASE-2026-006", CaseStatus.SUBMITTED, "90010112377", Instant.now()));
+
+        mockMvc.perform(post("/api/cases")
+                        .header(IdempotencyService.HEADER, "reused-key")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/cases")
+                        .header(IdempotencyService.HEADER, "reused-key")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isConflict());
+
+        verify(caseService, never()).createCase(eq(second), any());
+    }
+
     @Test
     void shouldReturn400WhenCreateCaseRequestIsInvalid() throws Exception {
         // given
@@ -229,6 +337,66 @@ class CaseControllerTest {
         verifyNoInteractions(caseService);
     }
 
+    @Test
+    void shouldAcceptCaseSubmissionWithStatusLocation() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID submissionId = UUID.randomUUID();
+        CreateCaseRequest request = new CreateCaseRequest("CASE-2026-004", "90010112377");
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(userId, "test@test.com", Set.of("USER")));
+        when(submissionService.submit(eq(request), eq(userId)))
+                .thenReturn(new CaseSubmissionResponse(submissionId, CaseSubmissionStatus.PENDING, null, null,
+                        "/api/cases/submissions/" + submissionId));
+
+        mockMvc.perform(post("/api/cases/submissions")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/cases/submissions/" + submissionId))
+                .andExpect(jsonPath("$.submissionId").value(submissionId.toString()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verifyNoInteractions(caseService);
+    }
+
+    @Test
+    void shouldReturn503WhenSubmissionCannotBeQueued() throws Exception {
+        UUID userId = UUID.randomUUID();
+        CreateCaseRequest request = new CreateCaseRequest("CASE-2026-004", "90010112377");
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(userId, "test@test.com", Set.of("USER")));
+        when(submissionService.submit(eq(request), eq(userId)))
+                .thenThrow(new CaseSubmissionUnavailableException("Case submissions are temporarily unavailable"));
+
+        mockMvc.perform(post("/api/cases/submissions")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void shouldReturnSubmissionStatus() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID submissionId = UUID.randomUUID();
+        UUID caseId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(userId, "test@test.com", Set.of("USER")));
+        when(submissionService.getStatus(submissionId, userId))
+                .thenReturn(new CaseSubmissionResponse(submissionId, CaseSubmissionStatus.CREATED, caseId, null,
+                        "/api/cases/submissions/" + submissionId));
+
+        mockMvc.perform(get("/api/cases/submissions/" + submissionId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.caseId").value(caseId.toString()));
+    }
+
     @Test
     void shouldChangeCaseStatusSuccessfully_asAdmin() throws Exception {
 
@@ -256,6 +424,27 @@ class CaseControllerTest {
                 .changeStatus(caseId, CaseStatus.IN_REVIEW, adminId, true);
     }
 
+    @Test
+    void shouldReplayStatusChangeRetriedWithSameIdempotencyKey() throws Exception {
+        UUID caseId = UUID.randomUUID();
+        UUID officerId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(officerId, "officer@test.com", Set.of("OFFICER")));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(patch("/api/officer/cases/{caseId}/status", caseId)
+                            .header(IdempotencyService.HEADER, "retry-status-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .with(csrf())
+                            .content("{ \"newStatus\": \"IN_REVIEW\" }"))
+                    .andExpect(status().isNoContent());
+        }
+
+        verify(caseService, times(1))
+                .changeStatus(caseId, CaseStatus.IN_REVIEW, officerId, false);
+    }
+
     @Test
     void shouldReturn400WhenStatusIsNull() throws Exception {
         UUID caseId = UUID.randomUUID();
@@ -297,7 +486,7 @@ class CaseControllerTest {
         when(caseService.getAllForUser(eq(userId), any(Pageable.class)))
                 .thenReturn(page);
 
-        mockMvc.perform(get("/api/cases?page=0&size=20")
+        mockMvc.perform(get("/api/cases?page=0&size=20&withTotal=true")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
@@ -308,4 +497,88 @@ class CaseControllerTest {
                 .andExpect(jsonPath("$.totalPages").value(1))
                 .andExpect(jsonPath("$.number").value(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldChangeStatusInBulk() throws Exception {
+        UUID officerId = UUID.randomUUID();
+        UUID caseId = UUID.randomUUID();
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(
+                        officerId,
+                        "officer@test.com",
+                        Set.of("OFFICER")
+                ));
+
+        when(caseService.changeStatusBulk(List.of(caseId), CaseStatus.DECISION_PENDING, officerId, false))
+                .thenReturn(new BulkStatusChangeResponse(1, 1, List.of(
+                        CaseStatusChangeResult.changed(caseId, CaseStatus.IN_REVIEW, CaseStatus.DECISION_PENDING)
+                )));
+
+        String json = """
+        { "caseIds": ["%s"], "newStatus": "DECISION_PENDING" }
+        """.formatted(caseId);
+
+        mockMvc.perform(patch("/api/officer/cases/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .content(json))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(1))
+                .andExpect(jsonPath("$.results[0].caseId").value(caseId.toString()))
+                .andExpect(jsonPath("$.results[0].outcome").value("CHANGED"));
+    }
+
+    @Test
+    void shouldReturn400WhenBulkRequestHasNoCaseIds() throws Exception {
+        String json = """
+        { "caseIds": [], "newStatus": "DECISION_PENDING" }
+        """;
+
+        mockMvc.perform(patch("/api/officer/cases/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(csrf())
+                        .content(json))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseService);
+    }
+
+    @Test
+    void shouldSearchCasesWithCombinedFilters() throws Exception {
+        UUID officerId = UUID.randomUUID();
+        CaseSearchFilter filter = new CaseSearchFilter(
+                CaseStatus.IN_REVIEW,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                Instant.parse("2026-02-01T00:00:00Z"),
+                officerId,
+                "CASE-2026"
+        );
+
+        when(caseService.search(filter, null, 20))
+                .thenReturn(new CursorPage<>(List.of(cases.get(1)), 20, false, null));
+
+        mockMvc.perform(get("/api/officer/cases/search")
+                        .param("status", "IN_REVIEW")
+                        .param("createdFrom", "2026-01-01T00:00:00Z")
+                        .param("createdTo", "2026-02-01T00:00:00Z")
+                        .param("assignedOfficerId", officerId.toString())
+                        .param("caseNumberPrefix", "CASE-2026")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].caseNumber").value("CASE-2026-002"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void shouldReturn400WhenSearchDateRangeIsReversed() throws Exception {
+        mockMvc.perform(get("/api/officer/cases/search")
+                        .param("createdFrom", "2026-02-01T00:00:00Z")
+                        .param("createdTo", "2026-01-01T00:00:00Z")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(caseService);
+    }
+}
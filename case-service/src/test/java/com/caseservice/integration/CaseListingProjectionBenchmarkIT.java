@@ -0,0 +1,147 @@
+package com.caseservice.integration;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.response.CaseEntityDto;
+import com.caseservice.mapper.CaseMapper;
+import com.caseservice.repository.CaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the managed-entity listing path with the {@code CaseSummary} projection path
+ * for the same page. Prints per-page latency and allocated bytes; run manually with
+ * {@code mvn -pl case-service -Dtest=CaseListingProjectionBenchmarkIT test}.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "case.outbox.relay.fixed-delay-ms=3600000"
+})
+@Testcontainers
+@ActiveProfiles("test")
+@Slf4j
+class CaseListingProjectionBenchmarkIT {
+
+    private static final int CASES = 5_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 200;
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16")
+                    .withDatabaseName("case")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void registerProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    CaseRepository caseRepository;
+    @Autowired
+    CaseMapper mapper;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void seed() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        jdbcTemplate.update("DELETE FROM cases");
+
+        List<Object[]> rows = new ArrayList<>(CASES);
+        Instant base = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < CASES; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(),
+                    "CASE-BENCH-" + i,
+                    CaseStatus.SUBMITTED.name(),
+                    "90010112345",
+                    Timestamp.from(base.plusSeconds(i)),
+                    UUID.randomUUID()
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO cases (id, case_number, status, applicant_pesel, created_at, created_by_user_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                rows
+        );
+    }
+
+    @Test
+    void projectionPageShouldAllocateLessThanEntityPage() {
+        Pageable page = PageRequest.of(10, PAGE_SIZE, Sort.by("createdAt"));
+
+        Supplier<Page<CaseEntityDto>> entityPath = () -> readOnly.execute(status ->
+                caseRepository.findAllByStatus(CaseStatus.SUBMITTED, page).map(mapper::toDto));
+        Supplier<Page<CaseEntityDto>> projectionPath = () -> readOnly.execute(status ->
+                caseRepository.findSummariesByStatus(CaseStatus.SUBMITTED, page).map(mapper::toDto));
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+
+        log.info("entity page: {} us/page, {} bytes/page",
+                Math.round(entity.microsPerPage()), entity.bytesPerPage());
+        log.info("projection page: {} us/page, {} bytes/page",
+                Math.round(projection.microsPerPage()), projection.bytesPerPage());
+
+        assertThat(projection.bytesPerPage()).isLessThan(entity.bytesPerPage());
+    }
+
+    private Result measure(Supplier<Page<CaseEntityDto>> path) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            assertThat(path.get().getContent()).hasSize(PAGE_SIZE);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            path.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        return new Result(elapsed / 1_000.0 / MEASURED_ROUNDS, bytes / MEASURED_ROUNDS);
+    }
+
+    private record Result(double microsPerPage, long bytesPerPage) {}
+}
@@ -0,0 +1,127 @@
+package com.caseservice.integration;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.request.CaseSearchFilter;
+import com.caseservice.repository.CaseSearchRepository.SearchQuery;
+import com.caseservice.service.CaseCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plans the officer search for every combination of its five filters, with the planner's
+ * custom plan and with a forced generic plan (what a reused prepared statement gets),
+ * and checks that none of them reads {@code cases} sequentially.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "case.outbox.relay.fixed-delay-ms=3600000"
+})
+@Testcontainers
+@ActiveProfiles("test")
+class CaseSearchQueryPlanIT {
+
+    private static final int CASES = 50_000;
+    private static final int OFFICERS = 50;
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16")
+                    .withDatabaseName("case")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void registerProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private final List<UUID> officers = new ArrayList<>(OFFICERS);
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM case_status_history");
+        jdbcTemplate.update("DELETE FROM cases");
+        officers.clear();
+        for (int i = 0; i < OFFICERS; i++) {
+            officers.add(UUID.randomUUID());
+        }
+
+        CaseStatus[] statuses = CaseStatus.values();
+        List<Object[]> rows = new ArrayList<>(CASES);
+        for (int i = 0; i < CASES; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(),
+                    "CASE-" + (2025 + i % 2) + "-" + String.format("%06d", i),
+                    statuses[i % statuses.length].name(),
+                    "90010112345",
+                    Timestamp.from(BASE.plusSeconds(i * 600L)),
+                    UUID.randomUUID(),
+                    i % 3 == 0 ? null : officers.get(i % OFFICERS)
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO cases (id, case_number, status, applicant_pesel, created_at, created_by_user_id, assigned_officer_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows
+        );
+        jdbcTemplate.execute("ANALYZE cases");
+    }
+
+    @Test
+    void everyFilterCombinationShouldAvoidSequentialScan() {
+        for (int mask = 0; mask < 32; mask++) {
+            CaseSearchFilter filter = new CaseSearchFilter(
+                    (mask & 1) != 0 ? CaseStatus.IN_REVIEW : null,
+                    (mask & 2) != 0 ? BASE.plusSeconds(86_400L * 30) : null,
+                    (mask & 4) != 0 ? BASE.plusSeconds(86_400L * 90) : null,
+                    (mask & 8) != 0 ? officers.get(7) : null,
+                    (mask & 16) != 0 ? "CASE-2025-0012" : null
+            );
+            SearchQuery query = SearchQuery.of(filter, CaseCursor.START.createdAt(), CaseCursor.START.id(), 21);
+
+            assertThat(explain(query, false)).as("custom plan, filter %s", filter).doesNotContain("Seq Scan");
+            assertThat(explain(query, true)).as("generic plan, filter %s", filter).doesNotContain("Seq Scan");
+        }
+    }
+
+    private String explain(SearchQuery query, boolean genericPlan) {
+        return transactionTemplate.execute(status -> {
+            if (genericPlan) {
+                jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+            }
+            return String.join("\n",
+                    namedJdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.parameters(), String.class));
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package com.caseservice.integration;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.repository.CaseStatusHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the status history queries are planned on the (case_id, changed_at, id) index
+ * on a table large enough for the planner to prefer it over a sequential scan.
+ * Each test runs the {@link CaseStatusHistoryRepository} method, takes the SQL Hibernate
+ * generated for it from {@link RecordingStatementInspector} and explains that statement
+ * with the same parameters.
+ * <p>
+ * The table is partitioned by month, so the assertions look at the scan of the partition
+ * holding the seeded rows; the other, empty partitions may be planned either way.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.caseservice.integration.RecordingStatementInspector",
+        "case.outbox.relay.fixed-delay-ms=3600000"
+})
+@Testcontainers
+@ActiveProfiles("test")
+class CaseStatusHistoryQueryPlanIT {
+
+    private static final YearMonth SEEDED_MONTH = YearMonth.now(ZoneOffset.UTC);
+    private static final String PARTITION = "case_status_history_" + SEEDED_MONTH.toString().replace('-', '_');
+    // partition indexes are named after the partition and the columns of the parent index
+    private static final String INDEX_SCAN = "Index Scan using " + PARTITION + "_case_id_changed_at_id_idx on " + PARTITION;
+    private static final int CASES = 500;
+    private static final int TRANSITIONS_PER_CASE = 40;
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16")
+                    .withDatabaseName("case")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @DynamicPropertySource
+    static void registerProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CaseStatusHistoryRepository historyRepository;
+
+    private final List<UUID> caseIds = new ArrayList<>(CASES);
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM case_status_history");
+        caseIds.clear();
+
+        List<Object[]> rows = new ArrayList<>(CASES * TRANSITIONS_PER_CASE);
+        Instant base = SEEDED_MONTH.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        for (int c = 0; c < CASES; c++) {
+            UUID caseId = UUID.randomUUID();
+            caseIds.add(caseId);
+            for (int t = 0; t < TRANSITIONS_PER_CASE; t++) {
+                rows.add(new Object[]{
+                        UUID.randomUUID(),
+                        caseId,
+                        CaseStatus.SUBMITTED.name(),
+                        CaseStatus.IN_REVIEW.name(),
+                        Timestamp.from(base.plusSeconds(t * 60L + c)),
+                        "bench"
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO case_status_history (id, case_id, old_status, new_status, changed_at, changed_by) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                rows
+        );
+        jdbcTemplate.execute("ANALYZE case_status_history");
+    }
+
+    @Test
+    void timelinePageShouldSeekOnCompositeIndexWithoutSorting() {
+        UUID caseId = caseIds.get(0);
+        Timestamp after = Timestamp.from(Instant.EPOCH);
+        UUID afterId = new UUID(0L, 0L);
+
+        RecordingStatementInspector.clear();
+        historyRepository.findByCaseIdAfter(caseId, Instant.EPOCH, afterId, PageRequest.of(0, 21));
+
+        // binds follow the generated SQL: case id, changedAt twice, id, then offset and row limit of the page
+        String plan = explain(RecordingStatementInspector.lastOn("case_status_history"),
+                caseId, after, after, afterId, 0, 21);
+
+        assertThat(plan).contains(INDEX_SCAN).doesNotContain("Seq Scan on " + PARTITION);
+    }
+
+    @Test
+    void batchedHistoriesShouldUseCompositeIndex() {
+        List<UUID> batch = List.of(caseIds.get(1), caseIds.get(2), caseIds.get(3));
+
+        RecordingStatementInspector.clear();
+        historyRepository.findByCaseIdIn(batch);
+
+        String plan = explain(RecordingStatementInspector.lastOn("case_status_history"), batch.toArray());
+
+        assertThat(plan).contains(PARTITION + "_case_id_changed_at_id_idx").doesNotContain("Seq Scan on " + PARTITION);
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+}
@@ -0,0 +1,36 @@
+package com.caseservice.integration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records every statement Hibernate prepares, so plan tests can EXPLAIN the exact SQL a
+ * repository method generates. Enable with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /** The last recorded statement that reads {@code table}. */
+    public static String lastOn(String table) {
+        for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+            if (STATEMENTS.get(i).contains(" " + table + " ")) {
+                return STATEMENTS.get(i);
+            }
+        }
+        throw new IllegalStateException("No statement on " + table + " recorded");
+    }
+}
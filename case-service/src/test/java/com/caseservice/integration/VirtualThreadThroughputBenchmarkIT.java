@@ -0,0 +1,171 @@
+package com.caseservice.integration;
+
+import com.caseservice.CaseServiceApplication;
+import com.caseservice.domain.CaseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same JDBC-bound endpoint with many concurrent clients, once on Tomcat's
+ * platform thread pool and once with {@code spring.threads.virtual.enabled=true},
+ * and prints throughput and p99 for both. Run manually with
+ * {@code mvn -pl case-service -Dtest=VirtualThreadThroughputBenchmarkIT test};
+ * tune with {@code -Dbench.clients}, {@code -Dbench.seconds} and {@code -Dbench.tomcat-threads}.
+ */
+@Testcontainers
+@Slf4j
+class VirtualThreadThroughputBenchmarkIT {
+
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 400);
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 20);
+    private static final int TOMCAT_THREADS = Integer.getInteger("bench.tomcat-threads", 200);
+    private static final int WARMUP_SECONDS = 5;
+    private static final int CASES_PER_USER = 50;
+
+    @Container
+    static PostgreSQLContainer<?> postgres =
+            new PostgreSQLContainer<>("postgres:16")
+                    .withDatabaseName("case")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    @Test
+    void compareRequestThreadModels() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("platform threads: {} req/s, p99 {} ms, {} errors",
+                Math.round(platform.throughput()), Math.round(platform.p99Millis()), platform.errors());
+        log.info("virtual threads: {} req/s, p99 {} ms, {} errors",
+                Math.round(virtual.throughput()), Math.round(virtual.p99Millis()), virtual.errors());
+
+        assertThat(platform.requests()).isPositive();
+        assertThat(virtual.requests()).isPositive();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CaseServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.jpa.show-sql=false",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "case.outbox.relay.fixed-delay-ms=3600000",
+                        "spring.rabbitmq.listener.simple.auto-startup=false"
+                )
+                .run()) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String token = seedUserWithCases(context);
+
+            URI uri = URI.create("http://localhost:" + port + "/api/cases?size=20&withTotal=true");
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+
+            load(request, WARMUP_SECONDS);
+            return load(request, SECONDS);
+        }
+    }
+
+    private String seedUserWithCases(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM cases");
+
+        UUID userId = UUID.randomUUID();
+        List<Object[]> rows = new ArrayList<>(CASES_PER_USER);
+        for (int i = 0; i < CASES_PER_USER; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(),
+                    "CASE-VT-" + i,
+                    CaseStatus.SUBMITTED.name(),
+                    "90010112345",
+                    Timestamp.from(Instant.now()),
+                    userId
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO cases (id, case_number, status, applicant_pesel, created_at, created_by_user_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                rows
+        );
+
+        return context.getBean(TestJwtFactory.class).token(userId, "bench@test.com", List.of("USER"));
+    }
+
+    private Result load(HttpRequest request, int seconds) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder().executor(clients).build();
+
+            List<Future<long[]>> perClient = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                perClient.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            List<long[]> all = new ArrayList<>(CLIENTS);
+            for (Future<long[]> client : perClient) {
+                all.add(client.get());
+            }
+
+            long[] merged = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            long p99 = merged.length == 0 ? 0 : merged[(int) Math.ceil(merged.length * 0.99) - 1];
+
+            return new Result(merged.length, errors.get(), merged.length / (double) seconds, p99 / 1_000_000.0);
+        }
+    }
+
+    private record Result(long requests, long errors, double throughput, double p99Millis) {}
+}
@@ -0,0 +1,88 @@
+package com.caseservice.listener;
+
+import com.caseservice.configuration.CacheConfig;
+import com.caseservice.event.CaseEventPublisher;
+import com.caseservice.event.CaseModifiedEvent;
+import com.caseservice.service.CaseCache;
+import com.govcaseflow.events.cases.CaseCacheInvalidatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CaseCacheInvalidationListenerTest {
+
+    @Mock
+    private CaseEventPublisher caseEventPublisher;
+
+    private Cache cache;
+
+    private CaseCacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.CASES_CACHE);
+        cache = cacheManager.getCache(CacheConfig.CASES_CACHE);
+        listener = new CaseCacheInvalidationListener(new CaseCache(cacheManager), caseEventPublisher);
+    }
+
+    @Test
+    void shouldWriteBroadcastToOutboxBeforeCommit() {
+        UUID caseId = UUID.randomUUID();
+        cache.put(caseId, "cached");
+
+        listener.broadcastInvalidation(new CaseModifiedEvent(caseId));
+
+        ArgumentCaptor<CaseCacheInvalidatedEvent> broadcast = ArgumentCaptor.forClass(CaseCacheInvalidatedEvent.class);
+        verify(caseEventPublisher).publishCacheInvalidated(broadcast.capture());
+        assertThat(broadcast.getValue().caseId()).isEqualTo(caseId);
+        // the local entry stays until the transaction commits
+        assertThat(cache.get(caseId)).isNotNull();
+    }
+
+    @Test
+    void shouldEvictLocallyAfterCommitWithoutTouchingBroker() {
+        UUID caseId = UUID.randomUUID();
+        cache.put(caseId, "cached");
+
+        listener.onCaseModified(new CaseModifiedEvent(caseId));
+
+        assertThat(cache.get(caseId)).isNull();
+        verifyNoInteractions(caseEventPublisher);
+    }
+
+    @Test
+    void shouldEvictOnBroadcastFromOtherReplica() {
+        UUID caseId = UUID.randomUUID();
+        cache.put(caseId, "cached");
+
+        listener.onInvalidationBroadcast(new CaseCacheInvalidatedEvent(caseId, "other-replica"));
+
+        assertThat(cache.get(caseId)).isNull();
+    }
+
+    @Test
+    void shouldIgnoreOwnBroadcast() {
+        UUID caseId = UUID.randomUUID();
+        listener.broadcastInvalidation(new CaseModifiedEvent(caseId));
+
+        ArgumentCaptor<CaseCacheInvalidatedEvent> broadcast = ArgumentCaptor.forClass(CaseCacheInvalidatedEvent.class);
+        verify(caseEventPublisher).publishCacheInvalidated(broadcast.capture());
+
+        cache.put(caseId, "re-cached after commit");
+        listener.onInvalidationBroadcast(broadcast.getValue());
+
+        assertThat(cache.get(caseId)).isNotNull();
+    }
+}
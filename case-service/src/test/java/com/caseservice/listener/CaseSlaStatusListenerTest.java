@@ -0,0 +1,35 @@
+package com.caseservice.listener;
+
+import com.caseservice.service.CaseSlaService;
+import com.govcaseflow.events.cases.CaseStatus;
+import com.govcaseflow.events.cases.CaseStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CaseSlaStatusListenerTest {
+
+    @Mock
+    private CaseSlaService slaService;
+
+    @InjectMocks
+    private CaseSlaStatusListener listener;
+
+    @Test
+    void shouldRefreshDeadlineOnRelayedStatusChange() {
+        UUID caseId = UUID.randomUUID();
+
+        listener.onStatusChanged(new CaseStatusChangedEvent(
+                caseId, CaseStatus.SUBMITTED, CaseStatus.IN_REVIEW, Instant.now(), "officer"));
+
+        verify(slaService).refresh(caseId);
+    }
+}
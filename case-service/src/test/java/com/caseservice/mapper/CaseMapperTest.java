@@ -2,6 +2,7 @@ package com.caseservice.mapper;
 
 import com.caseservice.domain.CaseEntity;
 import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.projection.CaseSummary;
 import com.caseservice.dto.response.CaseEntityDto;
 import com.caseservice.dto.response.CaseResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,4 +73,23 @@ class CaseMapperTest {
         assertEquals(CaseStatus.SUBMITTED, response.status());
         assertEquals(createdAt, response.createdAt());
     }
+
+    @Test
+    void shouldMapCaseSummaryToCaseEntityDto() {
+        // given
+        UUID id = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2026-01-01T10:15:30Z");
+
+        CaseSummary summary = new CaseSummary(id, "CASE-2026-003", CaseStatus.SUBMITTED, "90010112345", createdAt);
+
+        // when
+        CaseEntityDto dto = caseMapper.toDto(summary);
+
+        // then
+        assertEquals(id, dto.getId());
+        assertEquals("CASE-2026-003", dto.getCaseNumber());
+        assertEquals("90010112345", dto.getApplicantPesel());
+        assertEquals(CaseStatus.SUBMITTED, dto.getStatus());
+        assertEquals(createdAt.toString(), dto.getCreatedAt());
+    }
 }
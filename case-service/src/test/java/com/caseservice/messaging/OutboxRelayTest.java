@@ -0,0 +1,204 @@
+package com.caseservice.messaging;
+
+import com.caseservice.domain.OutboxEvent;
+import com.caseservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-20T10:00:00Z");
+
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+
+        meterRegistry = new SimpleMeterRegistry();
+        relay = relay(1000);
+    }
+
+    @Test
+    void shouldMarkEventPublishedWhenBrokerAcks() {
+        // given
+        OutboxEvent event = pendingEvent();
+        when(outboxRepository.lockNextBatch(NOW, 100)).thenReturn(List.of(event));
+        when(outboxRepository.findOldestPendingCreatedAt()).thenReturn(Optional.empty());
+        confirmWith(true);
+
+        // when
+        relay.relayPending();
+
+        // then
+        assertThat(event.getPublishedAt()).isEqualTo(NOW);
+        assertThat(event.getAttempts()).isZero();
+        assertThat(meterRegistry.counter("case.outbox.published").count()).isEqualTo(1.0);
+
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitTemplate).send(eq("case.events.exchange"), eq("case.status.changed"),
+                message.capture(), any(CorrelationData.class));
+        assertThat(message.getValue().getMessageProperties().getMessageId()).isEqualTo(event.getMessageId());
+        assertThat(message.getValue().getMessageProperties().<String>getHeader("X-Trace-Id"))
+                .isEqualTo(event.getTraceId());
+    }
+
+    @Test
+    void shouldKeepEventPendingWhenBrokerNacks() {
+        // given
+        OutboxEvent event = pendingEvent();
+        when(outboxRepository.lockNextBatch(NOW, 100)).thenReturn(List.of(event));
+        when(outboxRepository.countByPublishedAtIsNullAndParkedAtIsNull()).thenReturn(1L);
+        when(outboxRepository.findOldestPendingCreatedAt()).thenReturn(Optional.of(event.getCreatedAt()));
+        confirmWith(false);
+
+        // when
+        relay.relayPending();
+
+        // then
+        assertThat(event.getPublishedAt()).isNull();
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getLastError()).startsWith("nack");
+        assertThat(event.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(1));
+        assertThat(event.getParkedAt()).isNull();
+        assertThat(meterRegistry.counter("case.outbox.failed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("case.outbox.pending").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("case.outbox.lag").gauge().value()).isEqualTo(30.0);
+    }
+
+    @Test
+    void shouldNotSendAnythingWhenOutboxIsEmpty() {
+        when(outboxRepository.lockNextBatch(NOW, 100)).thenReturn(List.of());
+        when(outboxRepository.findOldestPendingCreatedAt()).thenReturn(Optional.empty());
+
+        relay.relayPending();
+
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    void shouldWaitForWholeBatchAgainstOneDeadline() {
+        // given
+        relay = relay(200);
+        OutboxEvent first = pendingEvent();
+        OutboxEvent second = pendingEvent();
+        OutboxEvent third = pendingEvent();
+        when(outboxRepository.lockNextBatch(NOW, 100)).thenReturn(List.of(first, second, third));
+        when(outboxRepository.findOldestPendingCreatedAt()).thenReturn(Optional.empty());
+
+        // when
+        long start = System.nanoTime();
+        relay.relayPending();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertThat(elapsedMs).isLessThan(400);
+        assertThat(List.of(first, second, third)).allSatisfy(event -> {
+            assertThat(event.getPublishedAt()).isNull();
+            assertThat(event.getLastError()).startsWith("confirm timeout");
+        });
+    }
+
+    @Test
+    void shouldParkEventAfterLastAttempt() {
+        // given
+        OutboxEvent event = pendingEvent();
+        event.setAttempts(19);
+        when(outboxRepository.lockNextBatch(NOW, 100)).thenReturn(List.of(event));
+        when(outboxRepository.countByParkedAtIsNotNull()).thenReturn(1L);
+        when(outboxRepository.findOldestPendingCreatedAt()).thenReturn(Optional.empty());
+        confirmWith(false);
+
+        // when
+        relay.relayPending();
+
+        // then
+        assertThat(event.getAttempts()).isEqualTo(20);
+        assertThat(event.getParkedAt()).isEqualTo(NOW);
+        assertThat(event.getNextAttemptAt()).isNull();
+        assertThat(meterRegistry.get("case.outbox.parked").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldDoubleBackoffUpToMaximum() {
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(relay.backoff(5)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(relay.backoff(10)).isEqualTo(Duration.ofSeconds(512));
+        assertThat(relay.backoff(11)).isEqualTo(Duration.ofMinutes(10));
+        assertThat(relay.backoff(19)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    private OutboxRelay relay(long confirmTimeoutMs) {
+        return new OutboxRelay(
+                outboxRepository,
+                rabbitTemplate,
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                meterRegistry,
+                100,
+                confirmTimeoutMs,
+                Duration.ofDays(7),
+                20,
+                Duration.ofSeconds(1),
+                Duration.ofMinutes(10)
+        );
+    }
+
+    private void confirmWith(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "queue full"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    private OutboxEvent pendingEvent() {
+        return OutboxEvent.builder()
+                .id(UUID.randomUUID())
+                .aggregateId(UUID.randomUUID())
+                .eventType("com.govcaseflow.events.cases.CaseStatusChangedEvent")
+                .exchange("case.events.exchange")
+                .routingKey("case.status.changed")
+                .payload("{\"caseId\":\"" + UUID.randomUUID() + "\"}")
+                .messageId(UUID.randomUUID().toString())
+                .traceId(UUID.randomUUID().toString())
+                .createdAt(NOW.minusSeconds(30))
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.caseservice.repository;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.request.CaseSearchFilter;
+import com.caseservice.repository.CaseSearchRepository.SearchQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseSearchRepositoryTest {
+
+    private static final Instant AFTER = Instant.EPOCH;
+    private static final UUID AFTER_ID = new UUID(0L, 0L);
+
+    @Test
+    void shouldOnlyAddPredicatesForFiltersThatAreSet() {
+        CaseSearchFilter filter = new CaseSearchFilter(CaseStatus.IN_REVIEW, null, null, null, "");
+
+        SearchQuery query = SearchQuery.of(filter, AFTER, AFTER_ID, 21);
+
+        assertThat(query.sql())
+                .contains("status = :status")
+                .doesNotContain("assigned_officer_id")
+                .doesNotContain(":createdFrom")
+                .doesNotContain(":createdTo")
+                .doesNotContain("COLLATE \"C\"")
+                .doesNotContain(":prefixFrom");
+        assertThat(query.parameters().getParameterNames())
+                .containsExactlyInAnyOrder("afterCreatedAt", "afterId", "limit", "status");
+        assertThat(query.parameters().getValue("status")).isEqualTo("IN_REVIEW");
+    }
+
+    @Test
+    void shouldCombineAllFiltersInOneStatement() {
+        CaseSearchFilter filter = new CaseSearchFilter(
+                CaseStatus.SUBMITTED,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                Instant.parse("2026-02-01T00:00:00Z"),
+                UUID.randomUUID(),
+                "CASE-2026"
+        );
+
+        SearchQuery query = SearchQuery.of(filter, AFTER, AFTER_ID, 21);
+
+        assertThat(query.sql())
+                .contains("status = :status")
+                .contains("assigned_officer_id = :officerId")
+                .contains("created_at >= :createdFrom")
+                .contains("created_at < :createdTo")
+                .contains("(case_number COLLATE \"C\") >= :prefixFrom")
+                .contains("(case_number COLLATE \"C\") < :prefixTo")
+                .endsWith("ORDER BY created_at, id\nLIMIT :limit");
+        assertThat(query.parameters().getValue("prefixTo")).isEqualTo("CASE-2027");
+    }
+
+    @Test
+    void shouldComputePrefixUpperBound() {
+        assertThat(SearchQuery.prefixUpperBound("CASE-")).isEqualTo("CASE.");
+        assertThat(SearchQuery.prefixUpperBound("A" + Character.MAX_VALUE)).isEqualTo("B");
+        assertThat(SearchQuery.prefixUpperBound(String.valueOf(Character.MAX_VALUE))).isNull();
+    }
+}
@@ -0,0 +1,74 @@
+package com.caseservice.service;
+
+import com.caseservice.repository.CaseArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseArchiveServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T02:00:00Z");
+
+    @Mock
+    private CaseArchiveRepository archiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CaseArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new CaseArchiveService(
+                archiveRepository,
+                transactionManager,
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                Duration.ofDays(90),
+                2,
+                10
+        );
+    }
+
+    @Test
+    void shouldArchiveInChunksUntilChunkIsShort() {
+        Instant cutoff = NOW.minus(Duration.ofDays(90));
+        List<UUID> full = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> last = List.of(UUID.randomUUID());
+
+        when(archiveRepository.lockClosedBefore(cutoff, 2)).thenReturn(full).thenReturn(last);
+        when(archiveRepository.archive(full, NOW)).thenReturn(2);
+        when(archiveRepository.archive(last, NOW)).thenReturn(1);
+
+        archiveService.archiveClosedCases();
+
+        verify(archiveRepository, times(2)).lockClosedBefore(cutoff, 2);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void shouldNotMoveAnythingWhenNoCaseIsDue() {
+        when(archiveRepository.lockClosedBefore(any(), any(Integer.class))).thenReturn(List.of());
+
+        archiveService.archiveClosedCases();
+
+        verify(archiveRepository, never()).archive(anyList(), any());
+    }
+}
@@ -0,0 +1,73 @@
+package com.caseservice.service;
+
+import com.caseservice.configuration.CacheConfig;
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.response.CaseEntityDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseCacheTest {
+
+    private CaseCache caseCache;
+
+    @BeforeEach
+    void setUp() {
+        caseCache = new CaseCache(new ConcurrentMapCacheManager(CacheConfig.CASES_CACHE));
+    }
+
+    @Test
+    void shouldServeSecondReadFromCache() {
+        UUID caseId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        caseCache.get(caseId, () -> {
+            loads.incrementAndGet();
+            return dto(caseId, CaseStatus.SUBMITTED);
+        });
+        CaseEntityDto second = caseCache.get(caseId, () -> {
+            loads.incrementAndGet();
+            return dto(caseId, CaseStatus.IN_REVIEW);
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getStatus()).isEqualTo(CaseStatus.SUBMITTED);
+    }
+
+    @Test
+    void shouldNotCacheRowLoadedBeforeConcurrentEviction() {
+        UUID caseId = UUID.randomUUID();
+
+        // the read loads the pre-commit row, then the writer commits and evicts before the read returns
+        CaseEntityDto stale = caseCache.get(caseId, () -> {
+            CaseEntityDto beforeCommit = dto(caseId, CaseStatus.SUBMITTED);
+            caseCache.evict(caseId);
+            return beforeCommit;
+        });
+
+        CaseEntityDto next = caseCache.get(caseId, () -> dto(caseId, CaseStatus.IN_REVIEW));
+
+        assertThat(stale.getStatus()).isEqualTo(CaseStatus.SUBMITTED);
+        assertThat(next.getStatus()).isEqualTo(CaseStatus.IN_REVIEW);
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        UUID caseId = UUID.randomUUID();
+        caseCache.get(caseId, () -> dto(caseId, CaseStatus.SUBMITTED));
+
+        caseCache.evict(caseId);
+
+        assertThat(caseCache.get(caseId, () -> dto(caseId, CaseStatus.IN_REVIEW)).getStatus())
+                .isEqualTo(CaseStatus.IN_REVIEW);
+    }
+
+    private static CaseEntityDto dto(UUID caseId, CaseStatus status) {
+        return CaseEntityDto.builder().id(caseId).status(status).build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.projection.CaseSummary;
+import com.caseservice.mapper.CaseMapper;
+import com.caseservice.repository.CaseArchiveRepository;
+import com.caseservice.repository.CaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseExportServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseArchiveRepository archiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CaseExportService exportService;
+
+    private final UUID firstId = UUID.randomUUID();
+    private final UUID secondId = UUID.randomUUID();
+    private final UUID archivedId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        exportService = new CaseExportService(caseRepository, archiveRepository, new CaseMapper(), new ObjectMapper(), transactionManager);
+    }
+
+    @Test
+    void shouldExportCsvFromCursorsIncludingArchivedCases() throws Exception {
+        // given
+        Stream<CaseSummary> cursor = casesStream();
+        when(caseRepository.streamAllSummaries()).thenReturn(cursor);
+        when(archiveRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new CaseSummary(archivedId, "CASE-0", CaseStatus.CLOSED, "90010112377",
+                        Instant.parse("2025-06-01T10:00:00Z"))
+        ));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        exportService.export(output, CaseExportService.Format.CSV, false);
+
+        // then
+        assertThat(output.toString(StandardCharsets.UTF_8).lines()).containsExactly(
+                "id,caseNumber,status,applicantPesel,createdAt",
+                firstId + ",CASE-1,SUBMITTED,90010112345,2026-01-01T10:00:00Z",
+                secondId + ",\"CASE,\"\"2\"\"\",APPROVED,90010112366,2026-01-02T10:00:00Z",
+                archivedId + ",CASE-0,CLOSED,90010112377,2025-06-01T10:00:00Z"
+        );
+        verify(transactionManager).commit(null);
+    }
+
+    @Test
+    void shouldQuoteCsvValuesWithBareCarriageReturn() throws Exception {
+        when(caseRepository.streamAllSummaries()).thenReturn(Stream.of(
+                new CaseSummary(firstId, "CASE\r3", CaseStatus.SUBMITTED, "90010112345",
+                        Instant.parse("2026-01-01T10:00:00Z"))
+        ));
+        when(archiveRepository.streamAllSummaries()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exportService.export(output, CaseExportService.Format.CSV, false);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,caseNumber,status,applicantPesel,createdAt\n"
+                        + firstId + ",\"CASE\r3\",SUBMITTED,90010112345,2026-01-01T10:00:00Z\n"
+        );
+    }
+
+    @Test
+    void shouldExportGzippedNdjson() throws Exception {
+        when(caseRepository.streamAllSummaries()).thenReturn(casesStream());
+        when(archiveRepository.streamAllSummaries()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        exportService.export(output, CaseExportService.Format.NDJSON, true);
+
+        String ndjson = new String(
+                new GZIPInputStream(new ByteArrayInputStream(output.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8
+        );
+        assertThat(ndjson.lines()).hasSize(2);
+        assertThat(ndjson.lines().findFirst().orElseThrow())
+                .contains("\"caseNumber\":\"CASE-1\"")
+                .contains("\"createdAt\":\"2026-01-01T10:00:00Z\"");
+    }
+
+    private Stream<CaseSummary> casesStream() {
+        return Stream.of(
+                new CaseSummary(firstId, "CASE-1", CaseStatus.SUBMITTED, "90010112345",
+                        Instant.parse("2026-01-01T10:00:00Z")),
+                new CaseSummary(secondId, "CASE,\"2\"", CaseStatus.APPROVED, "90010112366",
+                        Instant.parse("2026-01-02T10:00:00Z"))
+        );
+    }
+}
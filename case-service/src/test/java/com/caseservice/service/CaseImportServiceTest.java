@@ -0,0 +1,145 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.response.CaseImportRowResult;
+import com.caseservice.repository.CaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseImportServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseStatusCounterService counterService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CaseImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new CaseImportService(
+                caseRepository,
+                counterService,
+                jdbcTemplate,
+                transactionManager,
+                objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                Clock.fixed(Instant.parse("2026-02-01T12:00:00Z"), ZoneOffset.UTC),
+                2
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldImportInChunksAndReportEveryLineInOrder() throws Exception {
+        // given
+        String ndjson = """
+                {"caseNumber":"CASE-1","applicantPesel":"90010112345"}
+                not json
+                {"caseNumber":"CASE-EXISTING","applicantPesel":"90010112345"}
+                {"caseNumber":"CASE-2","applicantPesel":"123"}
+
+                {"caseNumber":"CASE-1","applicantPesel":"90010112345"}
+                """;
+
+        when(caseRepository.findExistingCaseNumbers(anyList()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("CASE-EXISTING"))
+                .thenReturn(List.of("CASE-1"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    List<?> rows = invocation.getArgument(1);
+                    int[] counts = new int[rows.size()];
+                    Arrays.fill(counts, 1);
+                    return new int[][]{counts};
+                });
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        importService.importCases(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), output, UUID.randomUUID());
+
+        // then
+        List<CaseImportRowResult> report = output.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, CaseImportRowResult.class);
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                })
+                .toList();
+
+        assertThat(report)
+                .extracting(CaseImportRowResult::line, CaseImportRowResult::outcome)
+                .containsExactly(
+                        tuple(1L, CaseImportRowResult.Outcome.CREATED),
+                        tuple(2L, CaseImportRowResult.Outcome.INVALID),
+                        tuple(3L, CaseImportRowResult.Outcome.DUPLICATE),
+                        tuple(4L, CaseImportRowResult.Outcome.INVALID),
+                        tuple(6L, CaseImportRowResult.Outcome.DUPLICATE)
+                );
+        assertThat(report.get(0).caseId()).isNotNull();
+
+        // three chunks: [line 1, line 2], [line 3, line 4] and [line 6]; the invalid line 2 is reported after line 1
+        verify(caseRepository, times(3)).findExistingCaseNumbers(anyList());
+        verify(counterService).caseCreated(CaseStatus.SUBMITTED, 1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReportDuplicateWhenInsertHitsConflict() throws Exception {
+        when(caseRepository.findExistingCaseNumbers(anyList())).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{0}});
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        importService.importCases(new ByteArrayInputStream(
+                "{\"caseNumber\":\"CASE-RACE\",\"applicantPesel\":\"90010112345\"}\n".getBytes(StandardCharsets.UTF_8)),
+                output, UUID.randomUUID());
+
+        CaseImportRowResult result = objectMapper.readValue(output.toString(StandardCharsets.UTF_8).trim(),
+                CaseImportRowResult.class);
+        assertThat(result.outcome()).isEqualTo(CaseImportRowResult.Outcome.DUPLICATE);
+    }
+}
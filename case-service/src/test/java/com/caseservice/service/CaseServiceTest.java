@@ -1,24 +1,36 @@
 package com.caseservice.service;
 
+import com.caseservice.configuration.CacheConfig;
 import com.caseservice.domain.CaseEntity;
 import com.caseservice.domain.CaseStatus;
-import com.caseservice.domain.CaseStatusHistory;
+import com.caseservice.dto.projection.CaseStatusHistoryEntry;
+import com.caseservice.dto.projection.CaseSummary;
+import com.caseservice.dto.request.CaseSearchFilter;
 import com.caseservice.dto.request.CreateCaseRequest;
+import com.caseservice.dto.response.BulkStatusChangeResponse;
 import com.caseservice.dto.response.CaseEntityDto;
 import com.caseservice.dto.response.CaseResponse;
+import com.caseservice.dto.response.CaseStatusChangeResult;
+import com.caseservice.dto.response.CursorPage;
 import com.caseservice.event.CaseEventPublisher;
 import com.caseservice.exceptions.CaseAlreadyExistsException;
+import com.caseservice.exceptions.CaseConcurrentModificationException;
 import com.caseservice.exceptions.CaseNotFoundException;
+import com.caseservice.exceptions.InvalidCursorException;
 import com.caseservice.exceptions.InvalidCaseStatusTransitionException;
 import com.caseservice.mapper.CaseMapper;
+import com.caseservice.repository.CaseArchiveRepository;
 import com.caseservice.repository.CaseRepository;
+import com.caseservice.repository.CaseSearchRepository;
 import com.caseservice.repository.CaseStatusHistoryRepository;
 import com.govcaseflow.events.cases.CaseStatusChangedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -26,13 +38,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,6 +77,18 @@ class CaseServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private CaseStatusCounterService counterService;
+
+    @Mock
+    private CaseSearchRepository searchRepository;
+
+    @Mock
+    private CaseArchiveRepository archiveRepository;
+
+    @Spy
+    private CaseCache caseCache = new CaseCache(new ConcurrentMapCacheManager(CacheConfig.CASES_CACHE));
+
     @Test
     void shouldCreateCaseSuccessfully() {
         //given
@@ -101,20 +131,20 @@ class CaseServiceTest {
         UUID userId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 20);
 
-        List<CaseEntity> entities = List.of(
-                CaseEntity.builder().id(UUID.randomUUID()).caseNumber("CASE-1").build(),
-                CaseEntity.builder().id(UUID.randomUUID()).caseNumber("CASE-2").build()
+        List<CaseSummary> summaries = List.of(
+                summary("CASE-1", Instant.parse("2026-01-10T08:00:00Z")),
+                summary("CASE-2", Instant.parse("2026-01-10T09:00:00Z"))
         );
 
-        Page<CaseEntity> entityPage = new PageImpl<>(entities, pageable, entities.size());
+        Page<CaseSummary> summaryPage = new PageImpl<>(summaries, pageable, summaries.size());
 
-        when(caseRepository.findAllByCreatedByUserId(userId, pageable)).thenReturn(entityPage);
+        when(caseRepository.findSummariesByCreatedByUserId(userId, pageable)).thenReturn(summaryPage);
 
-        when(caseMapper.toDto(any(CaseEntity.class))).thenAnswer(inv -> {
-            CaseEntity e = inv.getArgument(0);
+        when(caseMapper.toDto(any(CaseSummary.class))).thenAnswer(inv -> {
+            CaseSummary e = inv.getArgument(0);
             return CaseEntityDto.builder()
-                    .id(e.getId())
-                    .caseNumber(e.getCaseNumber())
+                    .id(e.id())
+                    .caseNumber(e.caseNumber())
                     .build();
         });
 
@@ -126,7 +156,8 @@ class CaseServiceTest {
         assertThat(result.getContent().get(0).getCaseNumber()).isEqualTo("CASE-1");
         assertThat(result.getTotalElements()).isEqualTo(2);
 
-        verify(caseRepository).findAllByCreatedByUserId(userId, pageable);
+        verify(caseRepository).findSummariesByCreatedByUserId(userId, pageable);
+        verify(caseRepository, never()).findAllByCreatedByUserId(any(), any());
     }
 
 
@@ -192,21 +223,49 @@ class CaseServiceTest {
                 .build();
 
         when(caseRepository.findById(caseId)).thenReturn(Optional.of(entity));
+        when(caseRepository.transitionStatus(eq(caseId), eq("SUBMITTED"), eq(0L), eq("IN_REVIEW"), any(), eq(adminId.toString())))
+                .thenReturn(1);
 
         // when
         caseService.changeStatus(caseId, CaseStatus.IN_REVIEW, adminId, true);
 
         // then
         assertEquals(CaseStatus.IN_REVIEW, entity.getStatus());
-        verify(historyRepository).save(any(CaseStatusHistory.class));
+        assertEquals(1L, entity.getVersion());
+        verify(caseRepository).transitionStatus(eq(caseId), eq("SUBMITTED"), eq(0L), eq("IN_REVIEW"), any(), eq(adminId.toString()));
         verify(eventPublisher).publishEvent(any(CaseStatusChangedEvent.class));
     }
 
+    @Test
+    void shouldRejectStatusChangeWhenCaseWasModifiedConcurrently() {
+        // given
+        UUID caseId = UUID.randomUUID();
+
+        CaseEntity entity = CaseEntity.builder()
+                .id(caseId)
+                .status(CaseStatus.SUBMITTED)
+                .version(3L)
+                .build();
+
+        when(caseRepository.findById(caseId)).thenReturn(Optional.of(entity));
+        when(caseRepository.transitionStatus(eq(caseId), eq("SUBMITTED"), eq(3L), eq("IN_REVIEW"), any(), any()))
+                .thenReturn(0);
+
+        // when / then
+        assertThrows(
+                CaseConcurrentModificationException.class,
+                () -> caseService.changeStatus(caseId, CaseStatus.IN_REVIEW, UUID.randomUUID(), true)
+        );
+
+        assertEquals(CaseStatus.SUBMITTED, entity.getStatus());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void shouldThrowCaseNotFoundExceptionWhenGetByIdDoesNotExist() {
         UUID caseId = UUID.randomUUID();
 
-        when(caseRepository.findById(caseId)).thenReturn(Optional.empty());
+        when(caseRepository.findSummaryById(caseId)).thenReturn(Optional.empty());
 
         assertThrows(
                 CaseNotFoundException.class,
@@ -214,6 +273,20 @@ class CaseServiceTest {
         );
     }
 
+    @Test
+    void shouldReadArchivedCaseWhenNotInHotTable() {
+        UUID caseId = UUID.randomUUID();
+        CaseSummary archived = new CaseSummary(caseId, "CASE-OLD", CaseStatus.CLOSED, "90010112345",
+                Instant.parse("2025-01-01T00:00:00Z"));
+        CaseEntityDto dto = CaseEntityDto.builder().id(caseId).caseNumber("CASE-OLD").status(CaseStatus.CLOSED).build();
+
+        when(caseRepository.findSummaryById(caseId)).thenReturn(Optional.empty());
+        when(archiveRepository.findSummaryById(caseId)).thenReturn(Optional.of(archived));
+        when(caseMapper.toDto(archived)).thenReturn(dto);
+
+        assertEquals(dto, caseService.getById(caseId));
+    }
+
     @Test
     void shouldThrowCaseNotFoundExceptionWhenDeletingNonExistingCase() {
         UUID caseId = UUID.randomUUID();
@@ -253,13 +326,15 @@ class CaseServiceTest {
                 .build();
 
         when(caseRepository.findById(caseId)).thenReturn(Optional.of(entity));
+        when(caseRepository.transitionStatus(eq(caseId), eq("SUBMITTED"), eq(0L), eq("IN_REVIEW"), any(), eq(adminId.toString())))
+                .thenReturn(1);
 
         // when
         caseService.changeStatus(caseId, CaseStatus.IN_REVIEW, adminId, true);
 
         // then
         assertEquals(CaseStatus.IN_REVIEW, entity.getStatus());
-        verify(historyRepository).save(any(CaseStatusHistory.class));
+        verify(caseRepository).transitionStatus(eq(caseId), eq("SUBMITTED"), eq(0L), eq("IN_REVIEW"), any(), eq(adminId.toString()));
     }
 
     @Test
@@ -274,6 +349,8 @@ class CaseServiceTest {
                 .build();
 
         when(caseRepository.findById(caseId)).thenReturn(Optional.of(entity));
+        when(caseRepository.transitionStatus(eq(caseId), eq("SUBMITTED"), eq(0L), eq("IN_REVIEW"), any(), eq(adminId.toString())))
+                .thenReturn(1);
 
         // when
         caseService.changeStatus(caseId, CaseStatus.IN_REVIEW, adminId, true);
@@ -281,8 +358,303 @@ class CaseServiceTest {
         // then
         assertEquals(CaseStatus.IN_REVIEW, entity.getStatus());
 
-        verify(historyRepository).save(any(CaseStatusHistory.class));
+        assertEquals(1L, entity.getVersion());
+        verify(caseRepository).transitionStatus(eq(caseId), eq("SUBMITTED"), eq(0L), eq("IN_REVIEW"), any(), eq(adminId.toString()));
         verify(eventPublisher).publishEvent(any(CaseStatusChangedEvent.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldChangeStatusInBulkAndReportResultPerCase() {
+        // given
+        UUID officerId = UUID.randomUUID();
+
+        CaseEntity changeable = CaseEntity.builder()
+                .id(UUID.randomUUID())
+                .status(CaseStatus.IN_REVIEW)
+                .assignedOfficerId(officerId)
+                .build();
+
+        CaseEntity wrongStatus = CaseEntity.builder()
+                .id(UUID.randomUUID())
+                .status(CaseStatus.SUBMITTED)
+                .assignedOfficerId(officerId)
+                .build();
+
+        CaseEntity notMine = CaseEntity.builder()
+                .id(UUID.randomUUID())
+                .status(CaseStatus.IN_REVIEW)
+                .assignedOfficerId(UUID.randomUUID())
+                .build();
+
+        UUID missingId = UUID.randomUUID();
+
+        List<UUID> ids = List.of(changeable.getId(), wrongStatus.getId(), notMine.getId(), missingId, changeable.getId());
+
+        when(caseRepository.findAllById(anyList())).thenReturn(List.of(changeable, wrongStatus, notMine));
+
+        // when
+        BulkStatusChangeResponse response =
+                caseService.changeStatusBulk(ids, CaseStatus.DECISION_PENDING, officerId, false);
+
+        // then
+        assertThat(response.requested()).isEqualTo(4);
+        assertThat(response.changed()).isEqualTo(1);
+        assertThat(response.results())
+                .extracting(CaseStatusChangeResult::caseId, CaseStatusChangeResult::outcome)
+                .containsExactly(
+                        tuple(changeable.getId(), CaseStatusChangeResult.Outcome.CHANGED),
+                        tuple(wrongStatus.getId(), CaseStatusChangeResult.Outcome.INVALID_TRANSITION),
+                        tuple(notMine.getId(), CaseStatusChangeResult.Outcome.ACCESS_DENIED),
+                        tuple(missingId, CaseStatusChangeResult.Outcome.NOT_FOUND)
+                );
+
+        assertEquals(CaseStatus.DECISION_PENDING, changeable.getStatus());
+        assertEquals(CaseStatus.SUBMITTED, wrongStatus.getStatus());
+
+        verify(caseRepository).findAllById(List.of(changeable.getId(), wrongStatus.getId(), notMine.getId(), missingId));
+        verify(caseRepository, never()).findById(any());
+        verify(historyRepository).saveAll(argThat(histories -> ((List<?>) histories).size() == 1));
+        verify(eventPublisher, times(1)).publishEvent(any(CaseStatusChangedEvent.class));
+    }
+
+    @Test
+    void shouldReturnKeysetPageWithNextCursorWhenMoreRowsExist() {
+        // given
+        Instant createdAt = Instant.parse("2026-01-10T08:00:00Z");
+        List<CaseSummary> rows = List.of(
+                summary("CASE-1", createdAt),
+                summary("CASE-2", createdAt.plusSeconds(1)),
+                summary("CASE-3", createdAt.plusSeconds(2))
+        );
+
+        when(caseRepository.findSummariesByStatusAfter(
+                CaseStatus.SUBMITTED, CaseCursor.START.createdAt(), CaseCursor.START.id(), PageRequest.of(0, 3)))
+                .thenReturn(rows);
+        when(caseMapper.toDto(any(CaseSummary.class))).thenAnswer(inv -> {
+            CaseSummary e = inv.getArgument(0);
+            return CaseEntityDto.builder().id(e.id()).caseNumber(e.caseNumber()).build();
+        });
+
+        // when
+        CursorPage<CaseEntityDto> page = caseService.getSubmittedQueue(null, 2);
+
+        // then
+        assertThat(page.content()).extracting(CaseEntityDto::getCaseNumber).containsExactly("CASE-1", "CASE-2");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CaseCursor.decodeOrStart(page.nextCursor())).isEqualTo(CaseCursor.after(rows.get(1)));
+    }
+
+    @Test
+    void shouldReturnLastKeysetPageWithoutCursor() {
+        UUID officerId = UUID.randomUUID();
+        CaseSummary last = summary("CASE-1", Instant.parse("2026-01-10T08:00:00Z"));
+        CaseCursor cursor = new CaseCursor(Instant.parse("2026-01-09T08:00:00Z"), UUID.randomUUID());
+
+        when(caseRepository.findSummariesByAssignedOfficerIdAfter(officerId, cursor.createdAt(), cursor.id(), PageRequest.of(0, 21)))
+                .thenReturn(List.of(last));
+
+        CursorPage<CaseEntityDto> page = caseService.getAssignedToMe(officerId, cursor.encode(), 20);
+
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldSearchFromCursorAndReadOneRowAhead() {
+        // given
+        CaseSearchFilter filter = new CaseSearchFilter(
+                CaseStatus.IN_REVIEW, Instant.parse("2026-01-01T00:00:00Z"), null, UUID.randomUUID(), "CASE-2026");
+        CaseCursor cursor = new CaseCursor(Instant.parse("2026-01-09T08:00:00Z"), UUID.randomUUID());
+        List<CaseSummary> rows = List.of(
+                summary("CASE-2026-1", Instant.parse("2026-01-10T08:00:00Z")),
+                summary("CASE-2026-2", Instant.parse("2026-01-11T08:00:00Z"))
+        );
+
+        when(searchRepository.search(filter, cursor.createdAt(), cursor.id(), 2)).thenReturn(rows);
+        when(caseMapper.toDto(any(CaseSummary.class))).thenAnswer(inv -> {
+            CaseSummary e = inv.getArgument(0);
+            return CaseEntityDto.builder().id(e.id()).caseNumber(e.caseNumber()).build();
+        });
+
+        // when
+        CursorPage<CaseEntityDto> page = caseService.search(filter, cursor.encode(), 1);
+
+        // then
+        assertThat(page.content()).extracting(CaseEntityDto::getCaseNumber).containsExactly("CASE-2026-1");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CaseCursor.decodeOrStart(page.nextCursor())).isEqualTo(CaseCursor.after(rows.get(0)));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> caseService.getAll("not-a-cursor", 20));
+
+        verifyNoInteractions(caseRepository);
+    }
+
+    @Test
+    void shouldClaimNextUnassignedCasesForOfficer() {
+        // given
+        UUID officerId = UUID.randomUUID();
+        CaseEntity first = CaseEntity.builder().id(UUID.randomUUID()).status(CaseStatus.SUBMITTED).build();
+        CaseEntity second = CaseEntity.builder().id(UUID.randomUUID()).status(CaseStatus.SUBMITTED).build();
+
+        when(caseRepository.lockNextUnassignedSubmitted(2)).thenReturn(List.of(first, second));
+
+        // when
+        List<CaseEntityDto> claimed = caseService.claimNext(officerId, 2);
+
+        // then
+        assertThat(claimed).hasSize(2);
+        assertEquals(officerId, first.getAssignedOfficerId());
+        assertEquals(officerId, second.getAssignedOfficerId());
+        verify(caseMapper, times(2)).toDto(any(CaseEntity.class));
+    }
+
+    @Test
+    void shouldCapClaimCount() {
+        when(caseRepository.lockNextUnassignedSubmitted(20)).thenReturn(List.of());
+
+        List<CaseEntityDto> claimed = caseService.claimNext(UUID.randomUUID(), 1_000);
+
+        assertThat(claimed).isEmpty();
+        verify(caseRepository).lockNextUnassignedSubmitted(20);
+    }
+
+    @Test
+    void shouldLockCaseRowWhenAssigningToMe() {
+        UUID caseId = UUID.randomUUID();
+        UUID officerId = UUID.randomUUID();
+        CaseEntity entity = CaseEntity.builder().id(caseId).status(CaseStatus.SUBMITTED).build();
+
+        when(caseRepository.findByIdForUpdate(caseId)).thenReturn(Optional.of(entity));
+
+        caseService.assignToMe(caseId, officerId);
+
+        assertEquals(officerId, entity.getAssignedOfficerId());
+        verify(caseRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldReturnHistoryPageWithNextCursor() {
+        // given
+        UUID caseId = UUID.randomUUID();
+        Instant changedAt = Instant.parse("2026-01-10T08:00:00Z");
+        List<CaseStatusHistoryEntry> rows = List.of(
+                historyEntry(caseId, CaseStatus.SUBMITTED, CaseStatus.IN_REVIEW, changedAt),
+                historyEntry(caseId, CaseStatus.IN_REVIEW, CaseStatus.APPROVED, changedAt.plusSeconds(1))
+        );
+
+        when(historyRepository.findByCaseIdAfter(
+                caseId, CaseCursor.START.createdAt(), CaseCursor.START.id(), PageRequest.of(0, 2)))
+                .thenReturn(rows);
+
+        // when
+        CursorPage<CaseStatusHistoryEntry> page = caseService.getHistory(caseId, null, 1);
+
+        // then
+        assertThat(page.content()).containsExactly(rows.get(0));
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CaseCursor.decodeOrStart(page.nextCursor())).isEqualTo(CaseCursor.after(rows.get(0)));
+        verify(caseRepository, never()).existsById(any());
+    }
+
+    @Test
+    void shouldThrowCaseNotFoundExceptionWhenHistoryRequestedForNonExistingCase() {
+        UUID caseId = UUID.randomUUID();
+
+        when(historyRepository.findByCaseIdAfter(any(), any(), any(), any())).thenReturn(List.of());
+        when(caseRepository.existsById(caseId)).thenReturn(false);
+
+        assertThrows(CaseNotFoundException.class, () -> caseService.getHistory(caseId, null, 20));
+    }
+
+    @Test
+    void shouldReadHistoryOfArchivedCaseFromArchive() {
+        UUID caseId = UUID.randomUUID();
+        CaseStatusHistoryEntry closing = historyEntry(caseId, CaseStatus.APPROVED, CaseStatus.CLOSED,
+                Instant.parse("2025-06-01T08:00:00Z"));
+
+        when(historyRepository.findByCaseIdAfter(any(), any(), any(), any())).thenReturn(List.of());
+        when(caseRepository.existsById(caseId)).thenReturn(false);
+        when(archiveRepository.findHistoryAfter(caseId, CaseCursor.START.createdAt(), CaseCursor.START.id(), 21))
+                .thenReturn(List.of(closing));
+
+        CursorPage<CaseStatusHistoryEntry> page = caseService.getHistory(caseId, null, 20);
+
+        assertThat(page.content()).containsExactly(closing);
+        assertThat(page.hasNext()).isFalse();
+        verify(archiveRepository, never()).existsById(any());
+    }
+
+    @Test
+    void shouldThrowCaseNotFoundExceptionWhenHistoryRequestedForCaseMissingFromArchiveToo() {
+        UUID caseId = UUID.randomUUID();
+
+        when(historyRepository.findByCaseIdAfter(any(), any(), any(), any())).thenReturn(List.of());
+        when(caseRepository.existsById(caseId)).thenReturn(false);
+        when(archiveRepository.existsById(caseId)).thenReturn(false);
+
+        assertThrows(CaseNotFoundException.class, () -> caseService.getHistory(caseId, null, 20));
+        verify(archiveRepository).findHistoryAfter(eq(caseId), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldGroupHistoriesOfSeveralCasesFromSingleQuery() {
+        // given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID withoutHistory = UUID.randomUUID();
+        Instant changedAt = Instant.parse("2026-01-10T08:00:00Z");
+
+        CaseStatusHistoryEntry firstReview = historyEntry(first, CaseStatus.SUBMITTED, CaseStatus.IN_REVIEW, changedAt);
+        CaseStatusHistoryEntry firstApproval = historyEntry(first, CaseStatus.IN_REVIEW, CaseStatus.APPROVED, changedAt.plusSeconds(5));
+        CaseStatusHistoryEntry secondReview = historyEntry(second, CaseStatus.SUBMITTED, CaseStatus.IN_REVIEW, changedAt);
+
+        when(historyRepository.findByCaseIdIn(any()))
+                .thenReturn(List.of(firstReview, firstApproval, secondReview));
+
+        // when
+        Map<UUID, List<CaseStatusHistoryEntry>> histories =
+                caseService.getHistories(List.of(second, first, withoutHistory, first));
+
+        // then
+        assertThat(histories.keySet()).containsExactly(second, first, withoutHistory);
+        assertThat(histories.get(first)).containsExactly(firstReview, firstApproval);
+        assertThat(histories.get(second)).containsExactly(secondReview);
+        assertThat(histories.get(withoutHistory)).isEmpty();
+        verify(historyRepository, times(1)).findByCaseIdIn(any());
+        verify(archiveRepository).findHistoriesByCaseIds(List.of(withoutHistory));
+    }
+
+    @Test
+    void shouldFillHistoriesOfArchivedCasesFromArchive() {
+        UUID live = UUID.randomUUID();
+        UUID archived = UUID.randomUUID();
+        Instant changedAt = Instant.parse("2026-01-10T08:00:00Z");
+
+        CaseStatusHistoryEntry liveReview = historyEntry(live, CaseStatus.SUBMITTED, CaseStatus.IN_REVIEW, changedAt);
+        CaseStatusHistoryEntry archivedClosing = historyEntry(archived, CaseStatus.APPROVED, CaseStatus.CLOSED, changedAt);
+
+        when(historyRepository.findByCaseIdIn(any())).thenReturn(List.of(liveReview));
+        when(archiveRepository.findHistoriesByCaseIds(List.of(archived))).thenReturn(List.of(archivedClosing));
+
+        Map<UUID, List<CaseStatusHistoryEntry>> histories = caseService.getHistories(List.of(archived, live));
+
+        assertThat(histories.keySet()).containsExactly(archived, live);
+        assertThat(histories.get(archived)).containsExactly(archivedClosing);
+        assertThat(histories.get(live)).containsExactly(liveReview);
+    }
+
+    private static CaseStatusHistoryEntry historyEntry(UUID caseId, CaseStatus oldStatus, CaseStatus newStatus,
+                                                       Instant changedAt) {
+        return new CaseStatusHistoryEntry(UUID.randomUUID(), caseId, oldStatus, newStatus, changedAt,
+                UUID.randomUUID().toString());
+    }
+
+    private static CaseSummary summary(String caseNumber, Instant createdAt) {
+        return new CaseSummary(UUID.randomUUID(), caseNumber, CaseStatus.SUBMITTED, "90010112345", createdAt);
+    }
+
+}
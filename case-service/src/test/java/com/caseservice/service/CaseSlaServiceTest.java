@@ -0,0 +1,181 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.event.CaseEventPublisher;
+import com.caseservice.repository.CaseSlaRepository;
+import com.govcaseflow.events.cases.CaseSlaBreachedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseSlaServiceTest {
+
+    private static final Instant START = Instant.parse("2026-06-01T08:00:00Z");
+
+    @Mock
+    private CaseSlaRepository slaRepository;
+
+    @Mock
+    private CaseEventPublisher caseEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock(START);
+
+    private CaseSlaService slaService;
+
+    private final UUID caseId = UUID.randomUUID();
+    private final UUID officerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        slaService = new CaseSlaService(
+                slaRepository,
+                caseEventPublisher,
+                transactionManager,
+                clock,
+                new SimpleMeterRegistry(),
+                Duration.ofDays(5),
+                Duration.ofDays(3),
+                1000,
+                Duration.ofSeconds(30)
+        );
+    }
+
+    @Test
+    void shouldEscalateCaseStillInStatusAtDeadline() {
+        enter(CaseStatus.IN_REVIEW, START);
+        Instant due = START.plus(Duration.ofDays(5));
+        when(slaRepository.escalate(caseId, CaseStatus.IN_REVIEW, START, due, due))
+                .thenReturn(Optional.of(new CaseSlaRepository.Escalated(officerId)));
+
+        clock.set(due.minusSeconds(1));
+        slaService.escalateDue();
+        verify(slaRepository, never()).escalate(any(), any(), any(), any(), any());
+
+        clock.set(due);
+        slaService.escalateDue();
+
+        ArgumentCaptor<CaseSlaBreachedEvent> event = ArgumentCaptor.forClass(CaseSlaBreachedEvent.class);
+        verify(caseEventPublisher).publishSlaBreached(event.capture());
+        assertThat(event.getValue().caseId()).isEqualTo(caseId);
+        assertThat(event.getValue().assignedOfficerId()).isEqualTo(officerId);
+        assertThat(event.getValue().deadline()).isEqualTo(due);
+        assertThat(slaService.trackedDeadlines()).isZero();
+    }
+
+    @Test
+    void shouldStopTrackingWhenCaseLeavesSlaStatus() {
+        enter(CaseStatus.IN_REVIEW, START);
+        when(slaRepository.findOpen(caseId)).thenReturn(Optional.empty());
+        slaService.refresh(caseId);
+
+        clock.set(START.plus(Duration.ofDays(10)));
+        slaService.escalateDue();
+
+        verify(slaRepository, never()).escalate(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldIgnoreOlderStatusThanTracked() {
+        Instant enteredAt = START.plusSeconds(60);
+        enter(CaseStatus.DECISION_PENDING, enteredAt);
+        when(slaRepository.findOpen(caseId)).thenReturn(Optional.of(
+                new CaseSlaRepository.OpenCase(caseId, CaseStatus.IN_REVIEW, START)));
+
+        slaService.refresh(caseId);
+
+        Instant due = enteredAt.plus(Duration.ofDays(3));
+        when(slaRepository.escalate(caseId, CaseStatus.DECISION_PENDING, enteredAt, due, due))
+                .thenReturn(Optional.empty());
+        clock.set(due);
+        slaService.escalateDue();
+
+        verify(slaRepository).escalate(caseId, CaseStatus.DECISION_PENDING, enteredAt, due, due);
+        verify(caseEventPublisher, never()).publishSlaBreached(any());
+    }
+
+    @Test
+    void shouldEscalateEachStintInStatus() {
+        enter(CaseStatus.IN_REVIEW, START);
+        Instant firstDue = START.plus(Duration.ofDays(5));
+        when(slaRepository.escalate(caseId, CaseStatus.IN_REVIEW, START, firstDue, firstDue))
+                .thenReturn(Optional.of(new CaseSlaRepository.Escalated(officerId)));
+        clock.set(firstDue);
+        slaService.escalateDue();
+
+        Instant pendingAt = firstDue.plus(Duration.ofHours(1));
+        enter(CaseStatus.DECISION_PENDING, pendingAt);
+        Instant reviewAgainAt = pendingAt.plus(Duration.ofHours(1));
+        enter(CaseStatus.IN_REVIEW, reviewAgainAt);
+
+        Instant secondDue = reviewAgainAt.plus(Duration.ofDays(5));
+        when(slaRepository.escalate(caseId, CaseStatus.IN_REVIEW, reviewAgainAt, secondDue, secondDue))
+                .thenReturn(Optional.of(new CaseSlaRepository.Escalated(officerId)));
+        clock.set(secondDue);
+        slaService.escalateDue();
+
+        ArgumentCaptor<CaseSlaBreachedEvent> events = ArgumentCaptor.forClass(CaseSlaBreachedEvent.class);
+        verify(caseEventPublisher, times(2)).publishSlaBreached(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(CaseSlaBreachedEvent::enteredStatusAt)
+                .containsExactly(START, reviewAgainAt);
+    }
+
+    // a relayed status change makes the service read the case back
+    private void enter(CaseStatus status, Instant enteredAt) {
+        when(slaRepository.findOpen(caseId)).thenReturn(Optional.of(
+                new CaseSlaRepository.OpenCase(caseId, status, enteredAt)));
+        slaService.refresh(caseId);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CaseStatusCounterServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CaseStatusCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new CaseStatusCounterService(jdbcTemplate, 8);
+    }
+
+    @Test
+    void shouldMergeDeltasIntoOneOrderedBatch() {
+        // given
+        UUID officerId = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+        CaseStatusCounterService.Deltas deltas = new CaseStatusCounterService.Deltas()
+                .move(officerId, CaseStatus.SUBMITTED, CaseStatus.IN_REVIEW)
+                .move(officerId, CaseStatus.IN_REVIEW, CaseStatus.APPROVED)
+                .move(null, CaseStatus.SUBMITTED, CaseStatus.REJECTED);
+
+        // when
+        Collection<Map.Entry<CaseStatusCounterService.CounterKey, Long>> rows = deltasOf(deltas);
+
+        // then
+        // IN_REVIEW went +1 and -1 for both counters, so it is not written at all
+        assertThat(rows)
+                .extracting(e -> e.getKey().status(), e -> e.getKey().officerId(), Map.Entry::getValue)
+                .containsExactly(
+                        tuple(CaseStatus.SUBMITTED, CaseStatusCounterService.OVERALL, -2L),
+                        tuple(CaseStatus.SUBMITTED, officerId, -1L),
+                        tuple(CaseStatus.APPROVED, CaseStatusCounterService.OVERALL, 1L),
+                        tuple(CaseStatus.APPROVED, officerId, 1L),
+                        tuple(CaseStatus.REJECTED, CaseStatusCounterService.OVERALL, 1L)
+                );
+    }
+
+    @Test
+    void shouldOnlyTouchOfficerCounterOnAssignment() {
+        UUID officerId = UUID.randomUUID();
+
+        CaseStatusCounterService.Deltas deltas = new CaseStatusCounterService.Deltas()
+                .assign(officerId, CaseStatus.SUBMITTED);
+
+        assertThat(List.copyOf(deltasOf(deltas)))
+                .containsExactly(Map.entry(new CaseStatusCounterService.CounterKey(CaseStatus.SUBMITTED, officerId), 1L));
+    }
+
+    @Test
+    void shouldSkipDatabaseWhenDeltasCancelOut() {
+        counterService.apply(new CaseStatusCounterService.Deltas()
+                .add(CaseStatus.SUBMITTED, null, 1)
+                .add(CaseStatus.SUBMITTED, null, -1));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Map.Entry<CaseStatusCounterService.CounterKey, Long>> deltasOf(CaseStatusCounterService.Deltas deltas) {
+        counterService.apply(deltas);
+
+        ArgumentCaptor<Collection<Map.Entry<CaseStatusCounterService.CounterKey, Long>>> rows =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        return rows.getValue();
+    }
+}
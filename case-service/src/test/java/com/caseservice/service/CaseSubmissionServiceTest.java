@@ -0,0 +1,158 @@
+package com.caseservice.service;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.domain.CaseSubmissionStatus;
+import com.caseservice.dto.projection.CaseSubmissionRecord;
+import com.caseservice.dto.request.CreateCaseRequest;
+import com.caseservice.dto.response.CaseSubmissionResponse;
+import com.caseservice.messaging.CaseSubmissionCommand;
+import com.caseservice.messaging.CaseSubmissionPublisher;
+import com.caseservice.repository.CaseRepository;
+import com.caseservice.repository.CaseSubmissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CaseSubmissionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private CaseSubmissionRepository submissionRepository;
+
+    @Mock
+    private CaseStatusCounterService counterService;
+
+    @Mock
+    private CaseSubmissionPublisher publisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CaseSubmissionService submissionService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        submissionService = new CaseSubmissionService(
+                caseRepository,
+                submissionRepository,
+                counterService,
+                publisher,
+                jdbcTemplate,
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                Duration.ofDays(7)
+        );
+    }
+
+    @Test
+    void shouldPublishSubmissionAndReturnPending() {
+        CaseSubmissionResponse response =
+                submissionService.submit(new CreateCaseRequest("CASE-1", "90010112345"), userId);
+
+        ArgumentCaptor<CaseSubmissionCommand> command = ArgumentCaptor.forClass(CaseSubmissionCommand.class);
+        verify(publisher).publish(command.capture());
+
+        assertThat(command.getValue().submissionId()).isEqualTo(response.submissionId());
+        assertThat(command.getValue().submittedAt()).isEqualTo(NOW);
+        assertThat(response.status()).isEqualTo(CaseSubmissionStatus.PENDING);
+        assertThat(response.statusUrl()).isEqualTo("/api/cases/submissions/" + response.submissionId());
+        verifyNoInteractions(jdbcTemplate, submissionRepository);
+    }
+
+    @Test
+    void shouldReportPendingUntilSubmissionIsProcessed() {
+        UUID submissionId = UUID.randomUUID();
+        when(submissionRepository.findByIdAndUserId(submissionId, userId)).thenReturn(Optional.empty());
+
+        assertThat(submissionService.getStatus(submissionId, userId).status())
+                .isEqualTo(CaseSubmissionStatus.PENDING);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldInsertBatchAndRecordEveryOutcome() {
+        // given
+        CaseSubmissionCommand fresh = command("CASE-1");
+        CaseSubmissionCommand existing = command("CASE-EXISTING");
+        CaseSubmissionCommand sameBatchDuplicate = command("CASE-1");
+        CaseSubmissionCommand alreadyProcessed = command("CASE-2");
+
+        when(submissionRepository.findRecordedIds(anyCollection()))
+                .thenReturn(Set.of(alreadyProcessed.submissionId()));
+        when(caseRepository.findExistingCaseNumbers(anyList())).thenReturn(List.of("CASE-EXISTING"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    List<?> rows = invocation.getArgument(1);
+                    int[] counts = new int[rows.size()];
+                    Arrays.fill(counts, 1);
+                    return new int[][]{counts};
+                });
+
+        // when
+        submissionService.processBatch(List.of(fresh, existing, sameBatchDuplicate, alreadyProcessed, fresh));
+
+        // then
+        ArgumentCaptor<List<CaseSubmissionRecord>> saved = ArgumentCaptor.forClass(List.class);
+        verify(submissionRepository).saveAll(saved.capture());
+
+        assertThat(saved.getValue())
+                .extracting(CaseSubmissionRecord::submissionId, CaseSubmissionRecord::status)
+                .containsExactlyInAnyOrder(
+                        tuple(fresh.submissionId(), CaseSubmissionStatus.CREATED),
+                        tuple(existing.submissionId(), CaseSubmissionStatus.REJECTED),
+                        tuple(sameBatchDuplicate.submissionId(), CaseSubmissionStatus.REJECTED)
+                );
+        assertThat(saved.getValue())
+                .filteredOn(record -> record.status() == CaseSubmissionStatus.CREATED)
+                .allSatisfy(record -> assertThat(record.caseId()).isNotNull());
+        verify(counterService).caseCreated(CaseStatus.SUBMITTED, 1);
+    }
+
+    @Test
+    void shouldSkipBatchWhenEverySubmissionWasAlreadyProcessed() {
+        CaseSubmissionCommand processed = command("CASE-1");
+        when(submissionRepository.findRecordedIds(anyCollection())).thenReturn(Set.of(processed.submissionId()));
+
+        submissionService.processBatch(List.of(processed));
+
+        verifyNoInteractions(caseRepository, jdbcTemplate, counterService);
+        verify(submissionRepository, never()).saveAll(anyList());
+    }
+
+    private CaseSubmissionCommand command(String caseNumber) {
+        return new CaseSubmissionCommand(UUID.randomUUID(), caseNumber, "90010112345", userId, NOW.minusSeconds(5));
+    }
+}
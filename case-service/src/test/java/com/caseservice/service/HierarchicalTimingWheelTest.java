@@ -0,0 +1,55 @@
+package com.caseservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void shouldFireAtDeadlineAndNotBefore() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        wheel.schedule("a", "A", 55);
+
+        assertThat(wheel.advanceTo(50)).isEmpty();
+        assertThat(wheel.advanceTo(59)).isEmpty();
+        assertThat(wheel.advanceTo(60)).containsExactly("A");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldCascadeDeadlinesBeyondOneRotation() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(1, 4, 0);
+        wheel.schedule("near", "NEAR", 3);
+        wheel.schedule("far", "FAR", 37);
+        wheel.schedule("farther", "FARTHER", 200);
+
+        assertThat(wheel.advanceTo(3)).containsExactly("NEAR");
+        assertThat(wheel.advanceTo(36)).isEmpty();
+        assertThat(wheel.advanceTo(37)).containsExactly("FAR");
+        assertThat(wheel.advanceTo(199)).isEmpty();
+        assertThat(wheel.advanceTo(1_000)).containsExactly("FARTHER");
+    }
+
+    @Test
+    void shouldFireOverdueTimerOnNextAdvance() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(10, 8, 1_000);
+        wheel.schedule("late", "LATE", 500);
+
+        assertThat(wheel.advanceTo(1_000)).containsExactly("LATE");
+    }
+
+    @Test
+    void shouldCancelAndReschedule() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(1, 4, 0);
+        wheel.schedule("a", "first", 50);
+        wheel.schedule("a", "second", 5);
+        wheel.schedule("b", "B", 6);
+
+        assertThat(wheel.cancel("b")).isTrue();
+        assertThat(wheel.cancel("b")).isFalse();
+        assertThat(wheel.get("a")).isEqualTo("second");
+
+        assertThat(wheel.advanceTo(100)).containsExactly("second");
+    }
+}
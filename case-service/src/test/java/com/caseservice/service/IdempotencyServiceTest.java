@@ -0,0 +1,116 @@
+package com.caseservice.service;
+
+import com.caseservice.exceptions.IdempotencyKeyConflictException;
+import com.caseservice.exceptions.InvalidIdempotencyKeyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyService idempotencyService =
+            new IdempotencyService(100, Duration.ofMinutes(10), Duration.ofMillis(200));
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void shouldRunAgainAfterFailedAttempt() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", userId, "op", "request", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ResponseEntity<String> response = idempotencyService.execute("key-1", userId, "op", "request", () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok("done");
+        });
+
+        assertThat(response.getBody()).isEqualTo("done");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldScopeKeysPerUser() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyService.execute("shared", userId, "op", "request",
+                () -> ResponseEntity.ok(calls.incrementAndGet()));
+        idempotencyService.execute("shared", UUID.randomUUID(), "op", "request",
+                () -> ResponseEntity.ok(calls.incrementAndGet()));
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldMakeConcurrentRetryWaitForFirstAttempt() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-2", userId, "op", "request", () -> {
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.status(HttpStatus.CREATED).body("created");
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ResponseEntity<String>> retry = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-2", userId, "op", "request",
+                        () -> ResponseEntity.ok("should not run")));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        ResponseEntity<String> replayed = retry.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getBody()).isEqualTo("created");
+        assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void shouldRejectRetryWhileFirstAttemptRunsTooLong() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture.runAsync(() -> idempotencyService.execute("key-3", userId, "op", "request", () -> {
+            started.countDown();
+            await(release);
+            return ResponseEntity.ok("late");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> idempotencyService.execute("key-3", userId, "op", "request",
+                    () -> ResponseEntity.ok("should not run")))
+                    .isInstanceOf(IdempotencyKeyConflictException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shouldRejectOversizedKey() {
+        assertThatThrownBy(() -> idempotencyService.execute("k".repeat(256), userId, "op", "request",
+                () -> ResponseEntity.ok("x")))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
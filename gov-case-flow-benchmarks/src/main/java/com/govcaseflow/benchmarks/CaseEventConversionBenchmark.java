@@ -0,0 +1,62 @@
+package com.govcaseflow.benchmarks;
+
+import com.caseservice.configuration.RabbitConfig;
+import com.govcaseflow.events.cases.CaseStatus;
+import com.govcaseflow.events.cases.CaseStatusChangedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the status-changed event through the converter case-service actually
+ * registers (JavaTimeModule, trusted {@code com.govcaseflow.events} package).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseEventConversionBenchmark {
+
+    private Jackson2JsonMessageConverter converter;
+    private CaseStatusChangedEvent event;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        converter = new RabbitConfig().jackson2Converter();
+        event = new CaseStatusChangedEvent(
+                UUID.randomUUID(),
+                CaseStatus.SUBMITTED,
+                CaseStatus.IN_REVIEW,
+                Instant.parse("2026-01-07T00:38:18.782269Z"),
+                UUID.randomUUID().toString()
+        );
+        message = converter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message toMessage() {
+        return converter.toMessage(event, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object fromMessage() {
+        return converter.fromMessage(message);
+    }
+}
@@ -0,0 +1,57 @@
+package com.govcaseflow.benchmarks;
+
+import com.caseservice.domain.CaseEntity;
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.dto.response.CaseEntityDto;
+import com.caseservice.dto.response.CaseResponse;
+import com.caseservice.mapper.CaseMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseMapperBenchmark {
+
+    private final CaseMapper mapper = new CaseMapper();
+
+    private CaseEntity entity;
+
+    @Setup
+    public void setUp() {
+        entity = CaseEntity.builder()
+                .id(UUID.randomUUID())
+                .caseNumber("CASE-2026-000123")
+                .status(CaseStatus.IN_REVIEW)
+                .applicantPesel("90010112345")
+                .createdAt(Instant.parse("2026-01-07T00:38:18.782269Z"))
+                .createdByUserId(UUID.randomUUID())
+                .assignedOfficerId(UUID.randomUUID())
+                .build();
+    }
+
+    @Benchmark
+    public CaseEntityDto toDto() {
+        return mapper.toDto(entity);
+    }
+
+    @Benchmark
+    public CaseResponse toResponse() {
+        return mapper.toResponse(entity);
+    }
+}
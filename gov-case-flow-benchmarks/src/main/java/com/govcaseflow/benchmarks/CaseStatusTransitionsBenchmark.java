@@ -0,0 +1,39 @@
+package com.govcaseflow.benchmarks;
+
+import com.caseservice.domain.CaseStatus;
+import com.caseservice.domain.CaseStatusTransitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks every (from, to) pair per invocation, so the score covers allowed and rejected transitions alike.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CaseStatusTransitionsBenchmark {
+
+    private final CaseStatus[] statuses = CaseStatus.values();
+
+    @Benchmark
+    public void isAllowedTransitionAllPairs(Blackhole blackhole) {
+        for (CaseStatus from : statuses) {
+            for (CaseStatus to : statuses) {
+                blackhole.consume(CaseStatusTransitions.isAllowedTransition(from, to));
+            }
+        }
+    }
+}
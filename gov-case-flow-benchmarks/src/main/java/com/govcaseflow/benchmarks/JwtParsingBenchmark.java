@@ -0,0 +1,62 @@
+package com.govcaseflow.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification as done on every authenticated request. {@code parseClaims} is private
+ * in each {@code JwtService}, so the public {@code extractUserId} (one parse plus one claim read)
+ * is measured instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF";
+
+    private com.caseservice.security.JwtService caseJwtService;
+    private com.auditservice.security.JwtService auditJwtService;
+    private com.authservice.security.JwtService authJwtService;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        caseJwtService = new com.caseservice.security.JwtService(SECRET);
+        auditJwtService = new com.auditservice.security.JwtService(SECRET);
+        authJwtService = new com.authservice.security.JwtService(SECRET, 86_400_000L);
+
+        token = authJwtService.generateToken(UUID.randomUUID(), "officer@test.com", List.of("OFFICER"));
+    }
+
+    @Benchmark
+    public UUID caseService() {
+        return caseJwtService.extractUserId(token);
+    }
+
+    @Benchmark
+    public UUID auditService() {
+        return auditJwtService.extractUserId(token);
+    }
+
+    @Benchmark
+    public UUID authService() {
+        return authJwtService.extractUserId(token);
+    }
+}
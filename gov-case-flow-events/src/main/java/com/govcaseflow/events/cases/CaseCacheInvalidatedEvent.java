@@ -0,0 +1,12 @@
+package com.govcaseflow.events.cases;
+
+import java.util.UUID;
+
+/**
+ * Broadcast between case-service replicas so each one drops its cached copy of a case.
+ * {@code origin} identifies the sending instance, which has already evicted locally.
+ */
+public record CaseCacheInvalidatedEvent(
+        UUID caseId,
+        String origin
+) {}
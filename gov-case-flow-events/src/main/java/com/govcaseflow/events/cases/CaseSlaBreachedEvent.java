@@ -0,0 +1,17 @@
+package com.govcaseflow.events.cases;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A case stayed in {@code status} past its SLA deadline. Emitted once each time the case enters that status.
+ * {@code assignedOfficerId} is null for unassigned cases.
+ */
+public record CaseSlaBreachedEvent(
+        UUID caseId,
+        CaseStatus status,
+        UUID assignedOfficerId,
+        Instant enteredStatusAt,
+        Instant deadline,
+        Instant escalatedAt
+) {}
@@ -0,0 +1,135 @@
+package com.govcaseflow.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The HTTP calls a client makes in the case lifecycle, sent to the real controllers
+ * of the in-process services over loopback.
+ */
+public class CaseFlowClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI authBaseUri;
+    private final URI caseBaseUri;
+    private final URI auditBaseUri;
+
+    public CaseFlowClient(HttpClient http, URI authBaseUri, URI caseBaseUri, URI auditBaseUri) {
+        this.http = http;
+        this.authBaseUri = authBaseUri;
+        this.caseBaseUri = caseBaseUri;
+        this.auditBaseUri = auditBaseUri;
+    }
+
+    public void register(String email, String password) {
+        send(post(authBaseUri.resolve("/auth/register"), null, Map.of("email", email, "password", password)), 201);
+    }
+
+    /** Returns the access token. */
+    public String login(String email, String password) {
+        JsonNode body = send(post(authBaseUri.resolve("/auth/login"), null, Map.of("email", email, "password", password)), 200);
+        return body.get("accessToken").asText();
+    }
+
+    public UUID createCase(String token, String caseNumber, String applicantPesel) {
+        JsonNode body = send(post(caseBaseUri.resolve("/api/cases"), token,
+                Map.of("caseNumber", caseNumber, "applicantPesel", applicantPesel)), 201);
+        return UUID.fromString(body.get("id").asText());
+    }
+
+    public void assignToMe(String officerToken, UUID caseId) {
+        send(post(caseBaseUri.resolve("/api/officer/cases/" + caseId + "/assign-to-me"), officerToken, null), 200);
+    }
+
+    public void changeStatus(String officerToken, UUID caseId, String newStatus) {
+        HttpRequest request = authorized(caseBaseUri.resolve("/api/officer/cases/" + caseId + "/status"), officerToken)
+                .method("PATCH", json(Map.of("newStatus", newStatus)))
+                .header("Content-Type", "application/json")
+                .build();
+        send(request, 204);
+    }
+
+    public long auditEntryCount(String officerToken, UUID caseId) {
+        HttpRequest request = authorized(auditBaseUri.resolve("/api/audit/case/" + caseId + "?size=1"), officerToken)
+                .GET()
+                .build();
+        return send(request, 200).get("totalElements").asLong();
+    }
+
+    public void listMyCases(String token) {
+        send(authorized(caseBaseUri.resolve("/api/cases?size=10"), token).GET().build(), 200);
+    }
+
+    public void getCase(String token, UUID caseId) {
+        send(authorized(caseBaseUri.resolve("/api/cases/" + caseId), token).GET().build(), 200);
+    }
+
+    private HttpRequest post(URI uri, String token, Map<String, String> body) {
+        HttpRequest.Builder builder = token == null
+                ? HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT)
+                : authorized(uri, token);
+
+        if (body == null) {
+            return builder.POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.POST(json(body)).header("Content-Type", "application/json").build();
+    }
+
+    private HttpRequest.Builder authorized(URI uri, String token) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.BodyPublisher json(Map<String, String> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private JsonNode send(HttpRequest request, int expectedStatus) {
+        HttpResponse<String> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + request.uri(), ex);
+        }
+
+        if (response.statusCode() != expectedStatus) {
+            throw new UnexpectedResponseException(request, response);
+        }
+
+        try {
+            return response.body().isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static class UnexpectedResponseException extends RuntimeException {
+
+        public UnexpectedResponseException(HttpRequest request, HttpResponse<String> response) {
+            super(request.method() + " " + request.uri().getPath() + " returned " + response.statusCode()
+                    + ": " + response.body());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.govcaseflow.loadtest;
+
+import org.apache.qpid.server.SystemLauncher;
+import org.apache.qpid.server.model.SystemConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Qpid Broker-J started inside this JVM with an in-memory store, speaking AMQP 0-9-1 on a
+ * free localhost port. Spring AMQP talks to it exactly as it talks to RabbitMQ for the
+ * topic exchanges, durable queues and publisher confirms the services use.
+ */
+public class InProcessBroker implements AutoCloseable {
+
+    public static final String USERNAME = "guest";
+    public static final String PASSWORD = "guest";
+
+    private static final String CONFIGURATION = "/loadtest/qpid-broker.json";
+
+    private final SystemLauncher launcher;
+    private final Path workDir;
+    private final int port;
+
+    private InProcessBroker(SystemLauncher launcher, Path workDir, int port) {
+        this.launcher = launcher;
+        this.workDir = workDir;
+        this.port = port;
+    }
+
+    public static InProcessBroker start() throws Exception {
+        Path workDir = Files.createTempDirectory("gov-case-flow-broker");
+        Path configuration = workDir.resolve("config.json");
+        try (InputStream in = InProcessBroker.class.getResourceAsStream(CONFIGURATION)) {
+            Files.copy(in, configuration, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // the default location is a classpath: URL, whose handler is not visible from inside the fat jar
+        Path systemProperties = Files.createFile(workDir.resolve("system.properties"));
+
+        int port = freePort();
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(SystemConfig.TYPE, "Memory");
+        attributes.put(SystemConfig.INITIAL_CONFIGURATION_LOCATION, configuration.toUri().toString());
+        attributes.put(SystemConfig.INITIAL_SYSTEM_PROPERTIES_LOCATION, systemProperties.toUri().toString());
+        attributes.put(SystemConfig.STARTUP_LOGGED_TO_SYSTEM_OUT, false);
+        attributes.put(SystemConfig.CONTEXT, Map.of(
+                "qpid.amqp_port", String.valueOf(port),
+                "qpid.work_dir", workDir.toString(),
+                // RabbitMQ-only queue arguments such as x-queue-master-locator on AnonymousQueue
+                "queue.behaviourOnUnknownDeclareArgument", "IGNORE"
+        ));
+
+        SystemLauncher launcher = new SystemLauncher();
+        launcher.startup(attributes);
+        return new InProcessBroker(launcher, workDir, port);
+    }
+
+    public int port() {
+        return port;
+    }
+
+    @Override
+    public void close() throws IOException {
+        launcher.shutdown();
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+}
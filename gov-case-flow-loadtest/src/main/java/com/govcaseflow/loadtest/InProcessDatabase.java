@@ -0,0 +1,46 @@
+package com.govcaseflow.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A real PostgreSQL server unpacked from the embedded-postgres binaries and bound to localhost,
+ * with one database per service. Needs neither Docker nor network access.
+ */
+public class InProcessDatabase implements AutoCloseable {
+
+    public static final String USERNAME = "postgres";
+
+    private final EmbeddedPostgres postgres;
+
+    private InProcessDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    public static InProcessDatabase start(String... databases) throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "300")
+                .start();
+
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String database : databases) {
+                statement.execute("CREATE DATABASE " + database);
+            }
+        }
+        return new InProcessDatabase(postgres);
+    }
+
+    public String jdbcUrl(String database) {
+        return postgres.getJdbcUrl(USERNAME, database);
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
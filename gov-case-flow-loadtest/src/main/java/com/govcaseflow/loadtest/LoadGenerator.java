@@ -0,0 +1,185 @@
+package com.govcaseflow.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@code concurrency} closed-loop clients, each picking a scenario by the configured mix
+ * and recording every step. A failed step is counted and ends that iteration.
+ */
+public class LoadGenerator {
+
+    private static final String CITIZEN_PASSWORD = "LoadTest-Citizen-1";
+    private static final Duration AUDIT_POLL_INTERVAL = Duration.ofMillis(5);
+    private static final int FILED_CASES_KEPT = 1024;
+    private static final int ERRORS_PRINTED = 10;
+
+    private final CaseFlowClient client;
+    private final List<String> officerTokens;
+    private final LoadTestOptions options;
+    private final StepStats stats;
+
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReferenceArray<FiledCase> filedCases = new AtomicReferenceArray<>(FILED_CASES_KEPT);
+    private final AtomicLong filedCount = new AtomicLong();
+    private final AtomicInteger errorsPrinted = new AtomicInteger();
+    private final int totalWeight;
+
+    public LoadGenerator(CaseFlowClient client, List<String> officerTokens, LoadTestOptions options, StepStats stats) {
+        this.client = client;
+        this.officerTokens = officerTokens;
+        this.options = options;
+        this.stats = stats;
+        this.totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /** Blocks for {@code duration} and returns the time actually spent. */
+    public Duration run(Duration duration) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>(options.concurrency());
+            for (int i = 0; i < options.concurrency(); i++) {
+                running.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        iteration();
+                    }
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void iteration() {
+        try {
+            switch (pickScenario()) {
+                case LIFECYCLE -> lifecycle();
+                case BROWSE -> browse();
+            }
+        } catch (StepFailedException ex) {
+            if (errorsPrinted.getAndIncrement() < ERRORS_PRINTED) {
+                System.err.println(ex.getMessage());
+            }
+        }
+    }
+
+    private void lifecycle() {
+        long n = sequence.incrementAndGet();
+        String email = "citizen-" + runId + "-" + n + "@loadtest.local";
+        String officerToken = officerTokens.get((int) (n % officerTokens.size()));
+
+        timed(Step.REGISTER, () -> {
+            client.register(email, CITIZEN_PASSWORD);
+            return null;
+        });
+        String token = timed(Step.LOGIN, () -> client.login(email, CITIZEN_PASSWORD));
+        UUID caseId = timed(Step.CREATE_CASE, () -> client.createCase(token, "LT-" + runId + "-" + n, randomPesel()));
+
+        timed(Step.ASSIGN, () -> {
+            client.assignToMe(officerToken, caseId);
+            return null;
+        });
+        timed(Step.CHANGE_STATUS, () -> {
+            client.changeStatus(officerToken, caseId, "IN_REVIEW");
+            return null;
+        });
+        timed(Step.AUDIT_ROW, () -> {
+            awaitAuditRow(officerToken, caseId);
+            return null;
+        });
+
+        filedCases.set((int) (filedCount.getAndIncrement() % FILED_CASES_KEPT), new FiledCase(token, caseId));
+    }
+
+    private void browse() {
+        long filed = filedCount.get();
+        if (filed == 0) {
+            lifecycle();
+            return;
+        }
+
+        int slot = (int) ThreadLocalRandom.current().nextLong(Math.min(filed, FILED_CASES_KEPT));
+        FiledCase filedCase = filedCases.get(slot);
+        if (filedCase == null) {
+            return;
+        }
+
+        timed(Step.LIST_MY_CASES, () -> {
+            client.listMyCases(filedCase.citizenToken());
+            return null;
+        });
+        timed(Step.GET_CASE, () -> {
+            client.getCase(filedCase.citizenToken(), filedCase.caseId());
+            return null;
+        });
+    }
+
+    /** The status change is relayed through the outbox and the broker, so the row shows up asynchronously. */
+    private void awaitAuditRow(String officerToken, UUID caseId) {
+        long deadline = System.nanoTime() + options.auditTimeout().toNanos();
+        while (client.auditEntryCount(officerToken, caseId) == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("No audit row for case " + caseId + " after " + options.auditTimeout());
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(AUDIT_POLL_INTERVAL.toNanos());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for audit row", ex);
+            }
+        }
+    }
+
+    private <T> T timed(Step step, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            stats.record(step, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException ex) {
+            stats.error(step);
+            throw new StepFailedException(step, ex);
+        }
+    }
+
+    private Scenario pickScenario() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : options.mix().entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Scenario.LIFECYCLE;
+    }
+
+    private static String randomPesel() {
+        return "900101" + String.format("%05d", ThreadLocalRandom.current().nextInt(100_000));
+    }
+
+    private record FiledCase(String citizenToken, UUID caseId) {}
+
+    private static class StepFailedException extends RuntimeException {
+
+        StepFailedException(Step step, RuntimeException cause) {
+            super(step.description() + " failed: " + cause.getMessage(), cause);
+        }
+    }
+}
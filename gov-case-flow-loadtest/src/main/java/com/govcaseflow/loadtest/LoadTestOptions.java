@@ -0,0 +1,78 @@
+package com.govcaseflow.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, each given as {@code --name=value}:
+ * <ul>
+ *     <li>{@code concurrency} — number of simulated clients (default 16)</li>
+ *     <li>{@code warmup}, {@code duration} — seconds of unrecorded and recorded load (default 10 and 60)</li>
+ *     <li>{@code mix} — scenario weights, e.g. {@code lifecycle=1,browse=3} (default)</li>
+ *     <li>{@code officers} — officer accounts that assign and review cases (default 4)</li>
+ *     <li>{@code audit-timeout} — seconds to wait for the audit row of a status change (default 30)</li>
+ *     <li>{@code virtual-threads} — sets {@code spring.threads.virtual.enabled} in every service (default false)</li>
+ *     <li>{@code histograms} — directory for per-step {@code .hgrm} percentile files (default none)</li>
+ * </ul>
+ */
+public record LoadTestOptions(
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        int officers,
+        Duration auditTimeout,
+        boolean virtualThreads,
+        Path histogramDir
+) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                parseMix(values.getOrDefault("mix", "lifecycle=1,browse=3")),
+                Integer.parseInt(values.getOrDefault("officers", "4")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("audit-timeout", "30"))),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+                values.containsKey("histograms") ? Path.of(values.get("histograms")) : null
+        );
+
+        if (options.concurrency() < 1 || options.officers() < 1) {
+            throw new IllegalArgumentException("concurrency and officers must be at least 1");
+        }
+        return options;
+    }
+
+    private static Map<Scenario, Integer> parseMix(String value) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.trim().split("=");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("Expected scenario=weight in mix, got: " + part);
+            }
+            int parsed = Integer.parseInt(weight[1].trim());
+            if (parsed < 0) {
+                throw new IllegalArgumentException("Scenario weights cannot be negative: " + part);
+            }
+            mix.put(Scenario.valueOf(weight[0].trim().toUpperCase()), parsed);
+        }
+
+        if (mix.getOrDefault(Scenario.LIFECYCLE, 0) <= 0) {
+            throw new IllegalArgumentException("mix needs a positive lifecycle weight, browse reuses its cases");
+        }
+        return mix;
+    }
+}
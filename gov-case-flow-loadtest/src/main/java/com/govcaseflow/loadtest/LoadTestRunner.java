@@ -0,0 +1,68 @@
+package com.govcaseflow.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * End-to-end load test of the case lifecycle: register, login, create case, assign, status change
+ * and the resulting audit row, plus read traffic, against auth-, case- and audit-service started
+ * in this JVM on an embedded PostgreSQL and an in-process AMQP broker.
+ * <p>
+ * Build with {@code mvn -pl gov-case-flow-loadtest -am package -DskipTests}, then run
+ * {@code java -jar gov-case-flow-loadtest/target/loadtest.jar --concurrency=32 --duration=120};
+ * see {@link LoadTestOptions} for all options.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        System.out.println("Starting PostgreSQL, broker and services...");
+        try (InProcessDatabase database = InProcessDatabase.start(
+                ServiceCluster.AUTH_DB, ServiceCluster.CASE_DB, ServiceCluster.AUDIT_DB);
+             InProcessBroker broker = InProcessBroker.start();
+             ServiceCluster cluster = ServiceCluster.start(database, broker, options)) {
+
+            CaseFlowClient client = cluster.client(HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build());
+
+            List<String> officerTokens = cluster.createOfficers(client, options.officers());
+            StepStats stats = new StepStats();
+            LoadGenerator generator = new LoadGenerator(client, officerTokens, options, stats);
+
+            System.out.printf("Warming up for %ds with %d clients, mix %s%n",
+                    options.warmup().toSeconds(), options.concurrency(), options.mix());
+            generator.run(options.warmup());
+            stats.reset();
+
+            System.out.printf("Measuring for %ds%n", options.duration().toSeconds());
+            Duration elapsed = generator.run(options.duration());
+
+            Set<Step> steps = stepsInMix(options.mix());
+            System.out.println();
+            stats.print(System.out, steps, elapsed);
+
+            if (options.histogramDir() != null) {
+                stats.writeHistograms(options.histogramDir(), steps);
+                System.out.println("Percentile distributions written to " + options.histogramDir().toAbsolutePath());
+            }
+        }
+    }
+
+    private static Set<Step> stepsInMix(Map<Scenario, Integer> mix) {
+        Set<Step> steps = new LinkedHashSet<>();
+        mix.forEach((scenario, weight) -> {
+            if (weight > 0) {
+                steps.addAll(scenario.steps());
+            }
+        });
+        return steps;
+    }
+}
@@ -0,0 +1,25 @@
+package com.govcaseflow.loadtest;
+
+import java.util.List;
+
+/**
+ * What one iteration of a simulated client does.
+ */
+public enum Scenario {
+
+    /** A new citizen registers, logs in and files a case, an officer takes it and starts the review. */
+    LIFECYCLE(List.of(Step.REGISTER, Step.LOGIN, Step.CREATE_CASE, Step.ASSIGN, Step.CHANGE_STATUS, Step.AUDIT_ROW)),
+
+    /** A citizen from an earlier lifecycle lists their cases and opens one. */
+    BROWSE(List.of(Step.LIST_MY_CASES, Step.GET_CASE));
+
+    private final List<Step> steps;
+
+    Scenario(List<Step> steps) {
+        this.steps = steps;
+    }
+
+    public List<Step> steps() {
+        return steps;
+    }
+}
@@ -0,0 +1,128 @@
+package com.govcaseflow.loadtest;
+
+import com.auditservice.AuditServiceApplication;
+import com.authservice.AuthServiceApplication;
+import com.caseservice.CaseServiceApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * auth-, case- and audit-service, each in its own application context and embedded Tomcat,
+ * wired to the in-process database and broker. Each context reads only its
+ * {@code loadtest/<service>.properties}, because the services' own application.properties
+ * all sit at the same classpath location here.
+ */
+public class ServiceCluster implements AutoCloseable {
+
+    public static final String AUTH_DB = "auth_db";
+    public static final String CASE_DB = "case_db";
+    public static final String AUDIT_DB = "audit_db";
+
+    private static final String JWT_SECRET = "0123456789ABCDEF0123456789ABCDEF0123456789ABCDEF";
+    private static final String OFFICER_PASSWORD = "LoadTest-Officer-1";
+
+    private final ConfigurableApplicationContext audit;
+    private final ConfigurableApplicationContext cases;
+    private final ConfigurableApplicationContext auth;
+
+    private ServiceCluster(
+            ConfigurableApplicationContext audit,
+            ConfigurableApplicationContext cases,
+            ConfigurableApplicationContext auth
+    ) {
+        this.audit = audit;
+        this.cases = cases;
+        this.auth = auth;
+    }
+
+    /** Starts the consumer first so its queues are bound before anything is published. */
+    public static ServiceCluster start(InProcessDatabase database, InProcessBroker broker, LoadTestOptions options) {
+        ConfigurableApplicationContext audit = null;
+        ConfigurableApplicationContext cases = null;
+        try {
+            audit = run(AuditServiceApplication.class, "audit-service", database.jdbcUrl(AUDIT_DB), broker, options);
+            cases = run(CaseServiceApplication.class, "case-service", database.jdbcUrl(CASE_DB), broker, options);
+            ConfigurableApplicationContext auth =
+                    run(AuthServiceApplication.class, "auth-service", database.jdbcUrl(AUTH_DB), broker, options);
+            return new ServiceCluster(audit, cases, auth);
+        } catch (RuntimeException ex) {
+            if (cases != null) {
+                cases.close();
+            }
+            if (audit != null) {
+                audit.close();
+            }
+            throw ex;
+        }
+    }
+
+    public CaseFlowClient client(HttpClient http) {
+        return new CaseFlowClient(http, baseUri(auth), baseUri(cases), baseUri(audit));
+    }
+
+    /**
+     * Registers and logs in officers through the API. The OFFICER role is granted in the
+     * auth database directly, since promotion needs an admin whose password is not known here.
+     */
+    public List<String> createOfficers(CaseFlowClient client, int count) {
+        JdbcTemplate authJdbc = auth.getBean(JdbcTemplate.class);
+        List<String> tokens = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            String email = "officer-" + UUID.randomUUID() + "@loadtest.local";
+            client.register(email, OFFICER_PASSWORD);
+            authJdbc.update(
+                    "INSERT INTO user_roles (user_id, role) SELECT id, 'OFFICER' FROM users WHERE username = ?",
+                    email
+            );
+            tokens.add(client.login(email, OFFICER_PASSWORD));
+        }
+        return tokens;
+    }
+
+    @Override
+    public void close() {
+        auth.close();
+        cases.close();
+        audit.close();
+    }
+
+    private static ConfigurableApplicationContext run(
+            Class<?> application,
+            String name,
+            String jdbcUrl,
+            InProcessBroker broker,
+            LoadTestOptions options
+    ) {
+        return new SpringApplicationBuilder(application)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(
+                        "--spring.config.location=classpath:/loadtest/" + name + ".properties",
+                        "--spring.datasource.url=" + jdbcUrl,
+                        "--spring.datasource.username=" + InProcessDatabase.USERNAME,
+                        "--spring.datasource.password=",
+                        "--spring.rabbitmq.host=127.0.0.1",
+                        "--spring.rabbitmq.port=" + broker.port(),
+                        "--spring.rabbitmq.username=" + InProcessBroker.USERNAME,
+                        "--spring.rabbitmq.password=" + InProcessBroker.PASSWORD,
+                        "--security.jwt.secret=" + JWT_SECRET,
+                        "--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                        "--logging.level.root=WARN"
+                );
+    }
+
+    private static URI baseUri(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://127.0.0.1:" + port);
+    }
+}
@@ -0,0 +1,23 @@
+package com.govcaseflow.loadtest;
+
+public enum Step {
+
+    REGISTER("POST /auth/register"),
+    LOGIN("POST /auth/login"),
+    CREATE_CASE("POST /api/cases"),
+    ASSIGN("POST /api/officer/cases/{id}/assign-to-me"),
+    CHANGE_STATUS("PATCH /api/officer/cases/{id}/status"),
+    AUDIT_ROW("status change -> audit row visible"),
+    LIST_MY_CASES("GET /api/cases"),
+    GET_CASE("GET /api/cases/{id}");
+
+    private final String description;
+
+    Step(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -0,0 +1,84 @@
+package com.govcaseflow.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram (microseconds, 3 significant digits) and error count per step,
+ * shared by all client threads.
+ */
+public class StepStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Step, Histogram> latencies = new EnumMap<>(Step.class);
+    private final Map<Step, LongAdder> errors = new EnumMap<>(Step.class);
+
+    public StepStats() {
+        for (Step step : Step.values()) {
+            latencies.put(step, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(step, new LongAdder());
+        }
+    }
+
+    public void record(Step step, long elapsedNanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        latencies.get(step).recordValue(micros);
+    }
+
+    public void error(Step step) {
+        errors.get(step).increment();
+    }
+
+    public void reset() {
+        latencies.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    public void print(PrintStream out, Collection<Step> steps, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+
+        out.printf("%-44s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (Step step : steps) {
+            Histogram histogram = latencies.get(step);
+            out.printf("%-44s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    step.description(),
+                    histogram.getTotalCount(),
+                    errors.get(step).sum(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    /** Writes one HdrHistogram percentile distribution per step, in milliseconds, for plotting. */
+    public void writeHistograms(Path directory, Collection<Step> steps) throws IOException {
+        Files.createDirectories(directory);
+        for (Step step : steps) {
+            Path file = directory.resolve(step.name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                latencies.get(step).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.govcaseflow.infrastructure.config;
+
+import com.govcaseflow.infrastructure.tracing.MdcTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Spring Boot applies a single {@link TaskDecorator} bean to the auto-configured
+ * {@code applicationTaskExecutor}, both the thread pool and the virtual-thread variant,
+ * so {@code @Async} methods and async event listeners keep the caller's traceId.
+ */
+@Configuration
+public class TracingTaskExecutionConfig {
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return new MdcTaskDecorator();
+    }
+}
@@ -6,8 +6,10 @@ import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
 import java.util.UUID;
 
@@ -17,7 +19,8 @@ public class RabbitTraceInterceptorConfig {
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory,
-            MessageConverter messageConverter
+            MessageConverter messageConverter,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
     ) {
         SimpleRabbitListenerContainerFactory factory =
                 new SimpleRabbitListenerContainerFactory();
@@ -25,6 +28,11 @@ public class RabbitTraceInterceptorConfig {
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter);
 
+        // this factory replaces Boot's, so it has to apply spring.threads.virtual.enabled itself
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("rabbit-listener-"));
+        }
+
         factory.setAdviceChain((MethodInterceptor) invocation -> {
             Message message = null;
             for (Object arg : invocation.getArguments()) {